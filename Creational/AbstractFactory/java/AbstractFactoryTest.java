@@ -1,6 +1,18 @@
 package Creational.AbstractFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -66,4 +78,119 @@ public class AbstractFactoryTest {
 		assertEquals("ConcreteProductA2", productA2.operationA());
 		assertEquals("ConcreteProductB2", productB2.operationB());
 	}
+
+	/**
+	 * Tests the compile-time factory index.
+	 * 
+	 * Verifies that annotated factories are found by name, together with
+	 * the product classes of their family.
+	 */
+	@Test
+	public void testFactoryIndex() {
+		assertEquals(List.of("family1", "family2"), FactoryIndex.names());
+		assertInstanceOf(ConcreteFactory1.class, FactoryIndex.create("family1"));
+		assertEquals("ConcreteProductB2", FactoryIndex.create("family2").createProductB().operationB());
+		assertEquals(List.of(ConcreteProductA1.class, ConcreteProductB1.class), FactoryIndex.products("family1"));
+		assertThrows(IllegalArgumentException.class, () -> FactoryIndex.create("family3"));
+	}
+
+	/**
+	 * Tests the sealed factory variant.
+	 * 
+	 * Verifies that switch dispatch creates the same families of products
+	 * as the interface-based factories.
+	 */
+	@Test
+	public void testSealedFactory() {
+		SealedFactory factory1 = new SealedFactory.Family1();
+		assertInstanceOf(SealedProductA.Family1.class, factory1.createProductA());
+		assertEquals("ConcreteProductA1", factory1.createProductA().operationA());
+		assertEquals("ConcreteProductB1", factory1.createProductB().operationB());
+
+		SealedFactory factory2 = new SealedFactory.Family2();
+		assertInstanceOf(SealedProductB.Family2.class, factory2.createProductB());
+		assertEquals(new ConcreteFactory2().createProductA().operationA(), factory2.createProductA().operationA());
+		assertEquals(new ConcreteFactory2().createProductB().operationB(), factory2.createProductB().operationB());
+	}
+
+	/**
+	 * Tests selecting and swapping factories through a FactoryRouter.
+	 * 
+	 * Verifies that a route follows swaps, that compareAndSwap only swaps the
+	 * expected factory, and that unknown keys are rejected.
+	 */
+	@Test
+	public void testFactoryRouter() {
+		FactoryRouter<String> router = new FactoryRouter<>();
+		AbstractFactory factory1 = new ConcreteFactory1();
+		AbstractFactory factory2 = new ConcreteFactory2();
+		FactoryRouter.Route route = router.register("checkout", factory1);
+
+		assertSame(route, router.route("checkout"));
+		assertEquals("ConcreteProductA1", router.createProductA("checkout").operationA());
+		assertSame(factory1, router.swap("checkout", factory2));
+		assertEquals("ConcreteProductB2", route.createProductB().operationB());
+
+		assertFalse(router.compareAndSwap("checkout", factory1, factory1));
+		assertTrue(router.compareAndSwap("checkout", factory2, factory1));
+		assertSame(factory1, route.current());
+
+		assertThrows(IllegalArgumentException.class, () -> router.register("checkout", factory2));
+		assertThrows(IllegalArgumentException.class, () -> router.route("search"));
+		assertThrows(IllegalArgumentException.class, () -> router.swap("checkout", null));
+	}
+
+	/**
+	 * Tests swapping factories while other threads create products.
+	 * 
+	 * Verifies that creators never fail and always get a product of one of
+	 * the two families while the route is swapped back and forth.
+	 */
+	@Test
+	public void testFactoryRouterConcurrentSwap() throws Exception {
+		FactoryRouter<String> router = new FactoryRouter<>();
+		AbstractFactory[] factories = {new ConcreteFactory1(), new ConcreteFactory2()};
+		FactoryRouter.Route route = router.register("checkout", factories[0]);
+		AtomicBoolean done = new AtomicBoolean();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+			Future<?>[] creators = new Future<?>[3];
+			for (int i = 0; i < creators.length; i++) {
+				creators[i] = executor.submit(() -> {
+					while (!done.get()) {
+						String operation = route.current().createProductA().operationA();
+						assertTrue(operation.equals("ConcreteProductA1") || operation.equals("ConcreteProductA2"));
+					}
+				});
+			}
+			for (int i = 0; i < 10_000; i++) {
+				router.swap("checkout", factories[i % 2]);
+			}
+			done.set(true);
+			for (Future<?> creator : creators) {
+				creator.get();
+			}
+		}
+	}
+
+	/**
+	 * Tests the family caching of CachingFactory.
+	 * 
+	 * Verifies that the family is created once, that its products match,
+	 * and that the factory methods return the members of that family.
+	 */
+	@Test
+	public void testCachingFactory() {
+		CachingFactory factory = new CachingFactory(new ConcreteFactory2());
+		ProductFamily family = factory.family();
+
+		assertSame(family, factory.family());
+		assertEquals("ConcreteProductA2", family.productA().operationA());
+		assertEquals("ConcreteProductB2", family.productB().operationB());
+		assertSame(family.productA(), factory.createProductA());
+		assertSame(family.productB(), factory.createProductB());
+
+		assertThrows(IllegalArgumentException.class, () -> new CachingFactory(null));
+		assertThrows(IllegalArgumentException.class, () -> new ProductFamily(null, family.productB()));
+	}
 }
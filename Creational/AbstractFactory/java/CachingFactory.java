@@ -0,0 +1,61 @@
+package Creational.AbstractFactory;
+
+/**
+ * Factory decorator that creates its product family once and shares it.
+ * 
+ * The concrete products of this pattern are immutable, so one instance of
+ * each serves every caller. CachingFactory builds the family of the wrapped
+ * factory on first use and then returns the same products on every call:
+ * {@link #family()} hands out the matching A/B pair, and the factory
+ * methods its members, without allocating.
+ * 
+ * Only wrap factories whose products are immutable and safe to share
+ * between threads; a product with state would be shared by all callers.
+ */
+public class CachingFactory implements AbstractFactory {
+	private final AbstractFactory delegate; // Creates the family, once
+	private volatile ProductFamily family;  // The family, once created
+
+	/**
+	 * Constructs a caching factory.
+	 * @param delegate The factory whose products are shared.
+	 * @throws IllegalArgumentException if the delegate is null.
+	 */
+	public CachingFactory(AbstractFactory delegate) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate factory cannot be null.");
+		}
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Gets the product family of the wrapped factory, creating it on the first call.
+	 * @return The same family on every call.
+	 */
+	public ProductFamily family() {
+		ProductFamily result = family;
+		if (result == null) {
+			result = ProductFamily.of(delegate);
+			family = result; // A racing thread may publish its own family, any of them will do
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the shared ProductA of the family.
+	 * @return The same ProductA on every call.
+	 */
+	@Override
+	public ProductA createProductA() {
+		return family().productA();
+	}
+
+	/**
+	 * Gets the shared ProductB of the family.
+	 * @return The same ProductB on every call.
+	 */
+	@Override
+	public ProductB createProductB() {
+		return family().productB();
+	}
+}
@@ -1,10 +1,13 @@
 package Creational.AbstractFactory;
 
+import Creational.AbstractFactory.index.FactoryFamily;
+
 /**
  * Concrete Factory 1.
  * 
  * Creates products belonging to Family 1.
  */
+@FactoryFamily(name = "family1", products = {ConcreteProductA1.class, ConcreteProductB1.class})
 public class ConcreteFactory1 implements AbstractFactory {
 
 	/**
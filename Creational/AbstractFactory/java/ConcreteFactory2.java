@@ -1,10 +1,13 @@
 package Creational.AbstractFactory;
 
+import Creational.AbstractFactory.index.FactoryFamily;
+
 /**
  * Concrete Factory 2.
  * 
  * Creates products belonging to Family 2.
  */
+@FactoryFamily(name = "family2", products = {ConcreteProductA2.class, ConcreteProductB2.class})
 public class ConcreteFactory2 implements AbstractFactory {
 
 	/**
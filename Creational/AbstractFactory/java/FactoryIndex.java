@@ -0,0 +1,57 @@
+package Creational.AbstractFactory;
+
+import java.util.List;
+
+/**
+ * Runtime lookup of the factories registered with {@code @FactoryFamily}.
+ * 
+ * The index is generated at compile time by the annotation processor of
+ * the {@code processor} subproject, so resolving a factory by name is a
+ * string switch followed by a constructor call: no classpath scanning and
+ * no reflection, at startup or later.
+ */
+public final class FactoryIndex {
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private FactoryIndex() {
+		// Static lookup only
+	}
+
+	/**
+	 * Creates the factory registered under a name.
+	 * @param name The name given in the factory's {@code @FactoryFamily} annotation.
+	 * @return A new instance of the factory.
+	 * @throws IllegalArgumentException if no factory is registered under the name.
+	 */
+	public static AbstractFactory create(String name) {
+		AbstractFactory factory = name == null ? null : GeneratedFactoryIndex.create(name);
+		if (factory == null) {
+			throw new IllegalArgumentException("No factory registered under name: " + name);
+		}
+		return factory;
+	}
+
+	/**
+	 * Lists the product classes of the family created by a factory.
+	 * @param name The name given in the factory's {@code @FactoryFamily} annotation.
+	 * @return The concrete product classes declared by the factory.
+	 * @throws IllegalArgumentException if no factory is registered under the name.
+	 */
+	public static List<Class<?>> products(String name) {
+		List<Class<?>> products = name == null ? null : GeneratedFactoryIndex.products(name);
+		if (products == null) {
+			throw new IllegalArgumentException("No factory registered under name: " + name);
+		}
+		return products;
+	}
+
+	/**
+	 * Lists the names of all indexed factories.
+	 * @return The factory names, in alphabetical order.
+	 */
+	public static List<String> names() {
+		return GeneratedFactoryIndex.names();
+	}
+}
@@ -0,0 +1,157 @@
+package Creational.AbstractFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selects the factory to use per key, with factories swappable at runtime.
+ *
+ * Each key has a {@link Route}: an {@link AbstractFactory} that forwards to
+ * the factory currently selected for the key, held in a volatile field.
+ * Creating a product through a route costs one volatile load on top of the
+ * factory call, with no lock, and {@link #swap(Object, AbstractFactory)}
+ * replaces the factory with an atomic write that never blocks creators.
+ * Products created after a swap completes come from the new factory.
+ *
+ * Keep the route rather than looking it up on every call: {@link #route(Object)}
+ * is a map lookup, the route itself is not.
+ * @param <K> The type of the keys, for instance a rollout or tenant name.
+ */
+public final class FactoryRouter<K> {
+	private final Map<K, Route> routes; // Routes by key, never removed
+
+	/**
+	 * An AbstractFactory forwarding to the factory currently selected for a key.
+	 *
+	 * Each call reads the current factory anew, so products A and B created
+	 * by two calls may come from different families if a swap happens in
+	 * between. Use {@link #current()} to create a whole family from one factory.
+	 */
+	public static final class Route implements AbstractFactory {
+		private static final VarHandle FACTORY; // Atomic updates of factory
+
+		static {
+			try {
+				FACTORY = MethodHandles.lookup().findVarHandle(Route.class, "factory", AbstractFactory.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private volatile AbstractFactory factory; // Written through FACTORY only
+
+		private Route(AbstractFactory factory) {
+			this.factory = factory;
+		}
+
+		/**
+		 * Gets the factory currently selected.
+		 * @return The current factory.
+		 */
+		public AbstractFactory current() {
+			return factory;
+		}
+
+		@Override
+		public ProductA createProductA() {
+			return factory.createProductA();
+		}
+
+		@Override
+		public ProductB createProductB() {
+			return factory.createProductB();
+		}
+	}
+
+	/**
+	 * Constructs a router with no routes.
+	 */
+	public FactoryRouter() {
+		this.routes = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Adds a route for a key.
+	 * @param key The key of the route.
+	 * @param factory The factory initially selected.
+	 * @return The route, to be kept by callers creating products.
+	 * @throws IllegalArgumentException if an argument is null or the key already has a route.
+	 */
+	public Route register(K key, AbstractFactory factory) {
+		if (key == null || factory == null) {
+			throw new IllegalArgumentException("Key and factory cannot be null.");
+		}
+		Route route = new Route(factory);
+		if (routes.putIfAbsent(key, route) != null) {
+			throw new IllegalArgumentException("A factory is already registered under key: " + key);
+		}
+		return route;
+	}
+
+	/**
+	 * Gets the route of a key.
+	 * @param key The key of the route.
+	 * @return The route, the same one on every call.
+	 * @throws IllegalArgumentException if the key has no route.
+	 */
+	public Route route(K key) {
+		Route route = key == null ? null : routes.get(key);
+		if (route == null) {
+			throw new IllegalArgumentException("No factory registered under key: " + key);
+		}
+		return route;
+	}
+
+	/**
+	 * Selects another factory for a key, without blocking products being created.
+	 * @param key The key of the route.
+	 * @param factory The factory to select.
+	 * @return The factory previously selected.
+	 * @throws IllegalArgumentException if the factory is null or the key has no route.
+	 */
+	public AbstractFactory swap(K key, AbstractFactory factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Factory cannot be null.");
+		}
+		return (AbstractFactory) Route.FACTORY.getAndSet(route(key), factory);
+	}
+
+	/**
+	 * Selects another factory for a key, if the current one is the expected one.
+	 *
+	 * Lets concurrent rollouts detect that another one changed the route first.
+	 * @param key The key of the route.
+	 * @param expected The factory expected to be selected.
+	 * @param factory The factory to select.
+	 * @return true if the factory was swapped.
+	 * @throws IllegalArgumentException if the factory is null or the key has no route.
+	 */
+	public boolean compareAndSwap(K key, AbstractFactory expected, AbstractFactory factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Factory cannot be null.");
+		}
+		return Route.FACTORY.compareAndSet(route(key), expected, factory);
+	}
+
+	/**
+	 * Creates a product A with the factory currently selected for a key.
+	 * @param key The key of the route.
+	 * @return A product of the current factory's family.
+	 * @throws IllegalArgumentException if the key has no route.
+	 */
+	public ProductA createProductA(K key) {
+		return route(key).createProductA();
+	}
+
+	/**
+	 * Creates a product B with the factory currently selected for a key.
+	 * @param key The key of the route.
+	 * @return A product of the current factory's family.
+	 * @throws IllegalArgumentException if the key has no route.
+	 */
+	public ProductB createProductB(K key) {
+		return route(key).createProductB();
+	}
+}
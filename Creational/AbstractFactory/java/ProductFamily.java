@@ -0,0 +1,36 @@
+package Creational.AbstractFactory;
+
+/**
+ * A matching pair of products, created by the same factory.
+ * 
+ * Requesting a whole family at once guarantees that its products are
+ * compatible, which separate createProductA() and createProductB() calls
+ * only do if they go to the same factory.
+ * @param productA The ProductA of the family.
+ * @param productB The ProductB of the family.
+ */
+public record ProductFamily(ProductA productA, ProductB productB) {
+
+	/**
+	 * Validates the products.
+	 * @throws IllegalArgumentException if a product is null.
+	 */
+	public ProductFamily {
+		if (productA == null || productB == null) {
+			throw new IllegalArgumentException("Products of a family cannot be null.");
+		}
+	}
+
+	/**
+	 * Creates a family with a factory.
+	 * @param factory The factory creating both products.
+	 * @return A new family of the factory's products.
+	 * @throws IllegalArgumentException if the factory is null or returns a null product.
+	 */
+	public static ProductFamily of(AbstractFactory factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Factory cannot be null.");
+		}
+		return new ProductFamily(factory.createProductA(), factory.createProductB());
+	}
+}
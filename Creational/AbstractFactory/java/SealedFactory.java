@@ -0,0 +1,50 @@
+package Creational.AbstractFactory;
+
+/**
+ * Sealed counterpart of {@link AbstractFactory}.
+ * 
+ * Each family is a record and the factory methods are default methods that
+ * switch over the families. Code iterating over many factories then calls
+ * a single implementation of {@link #createProductA()} and
+ * {@link #createProductB()}, which keeps the call sites monomorphic and
+ * inlinable, where calls through {@link AbstractFactory} turn megamorphic
+ * beyond two implementations. The compiler also checks that every switch
+ * covers every family, so adding a family cannot leave a product out.
+ * 
+ * The trade-off is that the hierarchy is closed: new families are added
+ * here rather than by implementing the interface elsewhere.
+ */
+public sealed interface SealedFactory permits SealedFactory.Family1, SealedFactory.Family2 {
+
+	/**
+	 * Creates products belonging to Family 1.
+	 */
+	record Family1() implements SealedFactory {}
+
+	/**
+	 * Creates products belonging to Family 2.
+	 */
+	record Family2() implements SealedFactory {}
+
+	/**
+	 * Creates a product of type A.
+	 * @return The ProductA of this factory's family.
+	 */
+	default SealedProductA createProductA() {
+		return switch (this) {
+			case Family1 factory -> new SealedProductA.Family1();
+			case Family2 factory -> new SealedProductA.Family2();
+		};
+	}
+
+	/**
+	 * Creates a product of type B.
+	 * @return The ProductB of this factory's family.
+	 */
+	default SealedProductB createProductB() {
+		return switch (this) {
+			case Family1 factory -> new SealedProductB.Family1();
+			case Family2 factory -> new SealedProductB.Family2();
+		};
+	}
+}
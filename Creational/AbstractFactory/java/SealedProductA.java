@@ -0,0 +1,34 @@
+package Creational.AbstractFactory;
+
+/**
+ * Sealed counterpart of {@link ProductA}.
+ * 
+ * The products of each family are records, and the behavior lives in a
+ * single default method that switches over them. Since no record overrides
+ * {@link #operationA()}, the JIT sees exactly one implementation at every
+ * call site and can inline it, however many families are in use; the
+ * family is then picked by the switch rather than by a virtual call.
+ */
+public sealed interface SealedProductA permits SealedProductA.Family1, SealedProductA.Family2 {
+
+	/**
+	 * ProductA of Family 1.
+	 */
+	record Family1() implements SealedProductA {}
+
+	/**
+	 * ProductA of Family 2.
+	 */
+	record Family2() implements SealedProductA {}
+
+	/**
+	 * Performs an operation specific to ProductA.
+	 * @return A string describing the operation, matching the one of the corresponding concrete product.
+	 */
+	default String operationA() {
+		return switch (this) {
+			case Family1 product -> "ConcreteProductA1";
+			case Family2 product -> "ConcreteProductA2";
+		};
+	}
+}
@@ -0,0 +1,34 @@
+package Creational.AbstractFactory;
+
+/**
+ * Sealed counterpart of {@link ProductB}.
+ * 
+ * The products of each family are records, and the behavior lives in a
+ * single default method that switches over them. Since no record overrides
+ * {@link #operationB()}, the JIT sees exactly one implementation at every
+ * call site and can inline it, however many families are in use; the
+ * family is then picked by the switch rather than by a virtual call.
+ */
+public sealed interface SealedProductB permits SealedProductB.Family1, SealedProductB.Family2 {
+
+	/**
+	 * ProductB of Family 1.
+	 */
+	record Family1() implements SealedProductB {}
+
+	/**
+	 * ProductB of Family 2.
+	 */
+	record Family2() implements SealedProductB {}
+
+	/**
+	 * Performs an operation specific to ProductB.
+	 * @return A string describing the operation, matching the one of the corresponding concrete product.
+	 */
+	default String operationB() {
+		return switch (this) {
+			case Family1 product -> "ConcreteProductB1";
+			case Family2 product -> "ConcreteProductB2";
+		};
+	}
+}
@@ -0,0 +1,157 @@
+package Creational.AbstractFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares interface dispatch with sealed switch dispatch when creating products.
+ *
+ * Each benchmark walks an array of factories that cycles through the given
+ * number of families, creates a product with each factory and calls an
+ * operation on it, as client code iterating over mixed factories does.
+ * {@code interfaceDispatch} uses factory and product classes implementing
+ * interfaces, as {@link AbstractFactory} does; {@code sealedDispatch} uses
+ * records of a sealed hierarchy dispatched by {@code switch}, as
+ * {@link SealedFactory} does. The two families of the pattern are not
+ * enough to show the difference, so both hierarchies here have eight.
+ *
+ * With two families the interface call sites are bimorphic and still
+ * inlined; from four families on they turn megamorphic and go through the
+ * virtual table, while the sealed variant keeps a single inlinable target
+ * and only pays for the switch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FactoryDispatchBenchmark {
+	private static final int FACTORIES = 1024;
+
+	@Param({"2", "4", "8"})
+	private int families;
+
+	private Factory[] factories;
+	private Sealed[] sealedFactories;
+
+	interface Product {
+		int operation();
+	}
+
+	interface Factory {
+		Product createProduct();
+	}
+
+	static final class Product1 implements Product { public int operation() { return 1; } }
+	static final class Product2 implements Product { public int operation() { return 2; } }
+	static final class Product3 implements Product { public int operation() { return 3; } }
+	static final class Product4 implements Product { public int operation() { return 4; } }
+	static final class Product5 implements Product { public int operation() { return 5; } }
+	static final class Product6 implements Product { public int operation() { return 6; } }
+	static final class Product7 implements Product { public int operation() { return 7; } }
+	static final class Product8 implements Product { public int operation() { return 8; } }
+
+	static final class Factory1 implements Factory { public Product createProduct() { return new Product1(); } }
+	static final class Factory2 implements Factory { public Product createProduct() { return new Product2(); } }
+	static final class Factory3 implements Factory { public Product createProduct() { return new Product3(); } }
+	static final class Factory4 implements Factory { public Product createProduct() { return new Product4(); } }
+	static final class Factory5 implements Factory { public Product createProduct() { return new Product5(); } }
+	static final class Factory6 implements Factory { public Product createProduct() { return new Product6(); } }
+	static final class Factory7 implements Factory { public Product createProduct() { return new Product7(); } }
+	static final class Factory8 implements Factory { public Product createProduct() { return new Product8(); } }
+
+	sealed interface SealedProduct {
+		record P1() implements SealedProduct {}
+		record P2() implements SealedProduct {}
+		record P3() implements SealedProduct {}
+		record P4() implements SealedProduct {}
+		record P5() implements SealedProduct {}
+		record P6() implements SealedProduct {}
+		record P7() implements SealedProduct {}
+		record P8() implements SealedProduct {}
+
+		default int operation() {
+			return switch (this) {
+				case P1 p -> 1;
+				case P2 p -> 2;
+				case P3 p -> 3;
+				case P4 p -> 4;
+				case P5 p -> 5;
+				case P6 p -> 6;
+				case P7 p -> 7;
+				case P8 p -> 8;
+			};
+		}
+	}
+
+	sealed interface Sealed {
+		record F1() implements Sealed {}
+		record F2() implements Sealed {}
+		record F3() implements Sealed {}
+		record F4() implements Sealed {}
+		record F5() implements Sealed {}
+		record F6() implements Sealed {}
+		record F7() implements Sealed {}
+		record F8() implements Sealed {}
+
+		default SealedProduct createProduct() {
+			return switch (this) {
+				case F1 f -> new SealedProduct.P1();
+				case F2 f -> new SealedProduct.P2();
+				case F3 f -> new SealedProduct.P3();
+				case F4 f -> new SealedProduct.P4();
+				case F5 f -> new SealedProduct.P5();
+				case F6 f -> new SealedProduct.P6();
+				case F7 f -> new SealedProduct.P7();
+				case F8 f -> new SealedProduct.P8();
+			};
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		Factory[] allFactories = {new Factory1(), new Factory2(), new Factory3(), new Factory4(),
+			new Factory5(), new Factory6(), new Factory7(), new Factory8()};
+		Sealed[] allSealed = {new Sealed.F1(), new Sealed.F2(), new Sealed.F3(), new Sealed.F4(),
+			new Sealed.F5(), new Sealed.F6(), new Sealed.F7(), new Sealed.F8()};
+		factories = new Factory[FACTORIES];
+		sealedFactories = new Sealed[FACTORIES];
+		for (int i = 0; i < FACTORIES; i++) {
+			factories[i] = allFactories[i % families];
+			sealedFactories[i] = allSealed[i % families];
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FACTORIES)
+	public int interfaceDispatch() {
+		int sum = 0;
+		for (Factory factory : factories) {
+			sum += factory.createProduct().operation();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FACTORIES)
+	public int sealedDispatch() {
+		int sum = 0;
+		for (Sealed factory : sealedFactories) {
+			sum += factory.createProduct().operation();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,129 @@
+package Creational.AbstractFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures product creation through a {@link FactoryRouter} under heavy concurrency.
+ *
+ * {@code direct} calls a factory held in a final field and is the
+ * baseline. {@code route} goes through a kept route, one volatile load
+ * more; {@code routerLookup} also looks the route up by key.
+ * {@code locked} guards the factory with a read-write lock, the external
+ * locking that swappable factories otherwise need: every creation writes
+ * the lock state, so creators contend on its cache line.
+ *
+ * The {@code swapping} and {@code lockedSwapping} groups run fifteen
+ * creators against one thread swapping the factory continuously, with the
+ * router and with the lock respectively. Creators should barely notice the
+ * swaps on the router, while the write lock stalls them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoryRouterBenchmark {
+	private static final String KEY = "checkout";
+
+	private AbstractFactory factory1;
+	private AbstractFactory factory2;
+	private FactoryRouter<String> router;
+	private FactoryRouter.Route route;
+	private ReadWriteLock lock;
+	private AbstractFactory lockedFactory; // Guarded by lock
+
+	@Setup
+	public void setUp() {
+		factory1 = new ConcreteFactory1();
+		factory2 = new ConcreteFactory2();
+		router = new FactoryRouter<>();
+		route = router.register(KEY, factory1);
+		lock = new ReentrantReadWriteLock();
+		lockedFactory = factory1;
+	}
+
+	@Benchmark
+	@Threads(16)
+	public ProductA direct() {
+		return factory1.createProductA();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public ProductA route() {
+		return route.createProductA();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public ProductA routerLookup() {
+		return router.createProductA(KEY);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public ProductA locked() {
+		return createLocked();
+	}
+
+	@Benchmark
+	@Group("swapping")
+	@GroupThreads(15)
+	public ProductA swappingCreate() {
+		return route.createProductA();
+	}
+
+	@Benchmark
+	@Group("swapping")
+	@GroupThreads(1)
+	public AbstractFactory swappingSwap() {
+		return router.swap(KEY, route.current() == factory1 ? factory2 : factory1);
+	}
+
+	@Benchmark
+	@Group("lockedSwapping")
+	@GroupThreads(15)
+	public ProductA lockedSwappingCreate() {
+		return createLocked();
+	}
+
+	@Benchmark
+	@Group("lockedSwapping")
+	@GroupThreads(1)
+	public AbstractFactory lockedSwappingSwap() {
+		lock.writeLock().lock();
+		try {
+			AbstractFactory previous = lockedFactory;
+			lockedFactory = previous == factory1 ? factory2 : factory1;
+			return previous;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private ProductA createLocked() {
+		lock.readLock().lock();
+		try {
+			return lockedFactory.createProductA();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+}
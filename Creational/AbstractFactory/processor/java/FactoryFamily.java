@@ -0,0 +1,33 @@
+package Creational.AbstractFactory.index;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers an AbstractFactory implementation in the generated factory index.
+ * 
+ * At compile time, {@link FactoryIndexProcessor} collects every class
+ * carrying this annotation into a generated index, so the factory can be
+ * found by name at runtime without scanning the classpath. The annotated
+ * class must implement AbstractFactory and have a public no-argument
+ * constructor.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface FactoryFamily {
+	/**
+	 * The name the factory is looked up by.
+	 * @return A name unique among the indexed factories.
+	 */
+	String name();
+
+	/**
+	 * The concrete products of the family created by the factory.
+	 * @return The product classes, in the order of the factory's creation methods.
+	 */
+	Class<?>[] products() default {};
+}
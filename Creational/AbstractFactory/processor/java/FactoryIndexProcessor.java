@@ -0,0 +1,202 @@
+package Creational.AbstractFactory.index;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor writing a static index of {@link FactoryFamily} factories.
+ *
+ * The processor generates {@code Creational.AbstractFactory.GeneratedFactoryIndex},
+ * whose methods resolve a factory name with a string switch over
+ * {@code new} expressions and class literals. Looking a factory up at
+ * runtime therefore needs neither classpath scanning nor reflection; the
+ * work is done once, by the compiler.
+ *
+ * Annotated classes are checked here, so mistakes fail the build rather
+ * than the lookup: each must be a public, concrete class implementing
+ * AbstractFactory with a public no-argument constructor, and factory names
+ * must be unique.
+ *
+ * The index is written in the first round even when no class is
+ * annotated, so FactoryIndex always compiles. For javac to run the
+ * processor in that case it must support all annotation types; it claims
+ * them, being the only processor of the module, so that compiling with
+ * lint reports no unclaimed annotations.
+ */
+public class FactoryIndexProcessor extends AbstractProcessor {
+	private static final String FACTORY_INTERFACE = "Creational.AbstractFactory.AbstractFactory";
+	private static final String INDEX_PACKAGE = "Creational.AbstractFactory";
+	private static final String INDEX_CLASS = "GeneratedFactoryIndex";
+
+	// Factories found so far, by name: factory class followed by its product classes.
+	private final Map<String, List<String>> factories = new TreeMap<>();
+	private final List<Element> origins = new ArrayList<>();
+	private boolean generated;
+
+	/**
+	 * Default constructor, called by the compiler.
+	 */
+	public FactoryIndexProcessor() {
+		// Default constructor
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Set.of("*"); // Also run when no class is annotated
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(FactoryFamily.class)) {
+			collect(element);
+		}
+		if (!generated && !roundEnv.processingOver()) {
+			generated = true; // Written in the first round, so the index is compiled with the factories
+			write();
+		}
+		return true;
+	}
+
+	/**
+	 * Validates an annotated class and records it.
+	 */
+	private void collect(Element element) {
+		Messager messager = processingEnv.getMessager();
+		if (generated) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "@FactoryFamily classes must not be generated sources.", element);
+			return;
+		}
+		if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)
+				|| !element.getModifiers().contains(Modifier.PUBLIC)) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "@FactoryFamily must be on a public concrete class.", element);
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		TypeElement factoryInterface = processingEnv.getElementUtils().getTypeElement(FACTORY_INTERFACE);
+		if (factoryInterface == null
+				|| !processingEnv.getTypeUtils().isAssignable(type.asType(), factoryInterface.asType())) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "@FactoryFamily class must implement " + FACTORY_INTERFACE + ".", element);
+			return;
+		}
+		boolean hasDefaultConstructor = false;
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				hasDefaultConstructor = true;
+			}
+		}
+		if (!hasDefaultConstructor) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "@FactoryFamily class needs a public no-argument constructor.", element);
+			return;
+		}
+
+		String name = type.getAnnotation(FactoryFamily.class).name();
+		if (factories.containsKey(name)) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Duplicate factory name \"" + name + "\", also used by "
+				+ factories.get(name).get(0) + ".", element);
+			return;
+		}
+		List<String> entry = new ArrayList<>();
+		entry.add(type.getQualifiedName().toString());
+		entry.addAll(productsOf(type));
+		factories.put(name, entry);
+		origins.add(element);
+	}
+
+	/**
+	 * Reads the products element of the annotation as class names.
+	 *
+	 * Class values cannot be read through the annotation proxy at compile
+	 * time, since the classes may not be compiled yet, so they are read from
+	 * the annotation mirror.
+	 */
+	private List<String> productsOf(TypeElement type) {
+		List<String> products = new ArrayList<>();
+		for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+			TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+			if (!annotation.getQualifiedName().contentEquals(FactoryFamily.class.getCanonicalName())) {
+				continue;
+			}
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+				if (!value.getKey().getSimpleName().contentEquals("products")) {
+					continue;
+				}
+				@SuppressWarnings("unchecked")
+				List<? extends AnnotationValue> classes = (List<? extends AnnotationValue>) value.getValue().getValue();
+				for (AnnotationValue product : classes) {
+					TypeMirror productType = (TypeMirror) product.getValue();
+					products.add(((TypeElement) ((DeclaredType) productType).asElement()).getQualifiedName().toString());
+				}
+			}
+		}
+		return products;
+	}
+
+	/**
+	 * Writes the index source file.
+	 */
+	private void write() {
+		String qualifiedName = INDEX_PACKAGE + "." + INDEX_CLASS;
+		try (Writer out = processingEnv.getFiler()
+				.createSourceFile(qualifiedName, origins.toArray(new Element[0])).openWriter()) {
+			out.write("package " + INDEX_PACKAGE + ";\n\n");
+			out.write("import java.util.List;\n\n");
+			out.write("/**\n * Index of the factories annotated with @FactoryFamily, generated at compile time by\n * "
+				+ getClass().getName() + ".\n */\n");
+			out.write("final class " + INDEX_CLASS + " {\n");
+			out.write("\tprivate " + INDEX_CLASS + "() {\n\t}\n\n");
+
+			out.write("\tstatic List<String> names() {\n\t\treturn List.of(");
+			out.write(String.join(", ", factories.keySet().stream().map(FactoryIndexProcessor::literal).toList()));
+			out.write(");\n\t}\n\n");
+
+			out.write("\tstatic AbstractFactory create(String name) {\n\t\treturn switch (name) {\n");
+			for (Map.Entry<String, List<String>> factory : factories.entrySet()) {
+				out.write("\t\t\tcase " + literal(factory.getKey()) + " -> new " + factory.getValue().get(0) + "();\n");
+			}
+			out.write("\t\t\tdefault -> null;\n\t\t};\n\t}\n\n");
+
+			out.write("\tstatic List<Class<?>> products(String name) {\n\t\treturn switch (name) {\n");
+			for (Map.Entry<String, List<String>> factory : factories.entrySet()) {
+				List<String> products = factory.getValue().subList(1, factory.getValue().size());
+				out.write("\t\t\tcase " + literal(factory.getKey()) + " -> List.of("
+					+ String.join(", ", products.stream().map(product -> product + ".class").toList()) + ");\n");
+			}
+			out.write("\t\t\tdefault -> null;\n\t\t};\n\t}\n}\n");
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + qualifiedName + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Quotes a string as a Java literal.
+	 */
+	private static String literal(String value) {
+		return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+}
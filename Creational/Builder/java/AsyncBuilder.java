@@ -0,0 +1,33 @@
+package Creational.Builder;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous interface for constructing a Product.
+ *
+ * Counterpart of {@link Builder} for builders whose parts take long to
+ * build and do not depend on each other. Each building step starts the
+ * work and returns a future of the part at once, so a director can build
+ * all parts at the same time and assemble the product when they are done.
+ */
+public interface AsyncBuilder {
+	/**
+	 * Starts building Part A of the product.
+	 * @return A future completed with Part A.
+	 */
+	CompletableFuture<String> buildPartA();
+
+	/**
+	 * Starts building Part B of the product.
+	 * @return A future completed with Part B.
+	 */
+	CompletableFuture<String> buildPartB();
+
+	/**
+	 * Assembles the product from its built parts.
+	 * @param partA Part A of the product.
+	 * @param partB Part B of the product.
+	 * @return The constructed Product instance.
+	 */
+	Product assemble(String partA, String partB);
+}
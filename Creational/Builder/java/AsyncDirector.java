@@ -0,0 +1,54 @@
+package Creational.Builder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Orchestrates the construction process with an asynchronous builder.
+ *
+ * Where {@link Director} builds the parts one after another, this director
+ * starts all of them before waiting for any, so a product takes as long to
+ * build as its slowest part rather than the sum of all parts.
+ */
+public class AsyncDirector {
+	private final AsyncBuilder builder;
+
+	/**
+	 * Constructs an AsyncDirector with the given builder.
+	 * @param builder The AsyncBuilder instance to use for constructing the product.
+	 * @throws IllegalArgumentException if the builder is null.
+	 */
+	public AsyncDirector(AsyncBuilder builder) {
+		if (builder == null) {
+			throw new IllegalArgumentException("Builder cannot be null.");
+		}
+		this.builder = builder;
+	}
+
+	/**
+	 * Starts building all parts concurrently and assembles the product once they are built.
+	 * @return A future completed with the constructed Product; it completes
+	 *         exceptionally if building a part or assembling the product fails.
+	 */
+	public CompletableFuture<Product> construct() {
+		CompletableFuture<String> partA = builder.buildPartA();
+		CompletableFuture<String> partB = builder.buildPartB();
+		return partA.thenCombine(partB, builder::assemble);
+	}
+
+	/**
+	 * Constructs the product, waiting until all parts are built.
+	 * @return The constructed Product instance.
+	 * @throws RuntimeException the exception thrown while building a part or assembling the product.
+	 */
+	public Product getProduct() {
+		try {
+			return construct().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
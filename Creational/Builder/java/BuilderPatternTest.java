@@ -1,5 +1,17 @@
 package Creational.Builder;
 
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +88,168 @@ public class BuilderPatternTest {
 		assertEquals("Product [PartA: Part A built by ConcreteBuilder, PartB: Part B built by ConcreteBuilder]",
 		             product2.toString());
 	}
+
+	/**
+	 * Test building several immutable products with one ResettableBuilder.
+	 *
+	 * Verifies that build() emits a complete product and resets the builder,
+	 * and that products built earlier are not affected by later builds.
+	 */
+	@Test
+	public void testResettableBuilder() {
+		ResettableBuilder builder = new ResettableBuilder();
+		Director director = new Director(builder);
+
+		director.construct();
+		ImmutableProduct product1 = builder.build();
+		assertEquals("Product [PartA: Part A built by ResettableBuilder, PartB: Part B built by ResettableBuilder]",
+		             product1.toString());
+
+		// The builder was reset by build()
+		builder.buildPartA();
+		ImmutableProduct product2 = builder.build();
+		assertEquals("Product [PartA: Part A built by ResettableBuilder, PartB: null]", product2.toString());
+		assertNotSame(product1, product2);
+		assertEquals("Part B built by ResettableBuilder", product1.partB());
+
+		// Explicit reset discards parts
+		builder.buildPartB();
+		builder.reset();
+		assertEquals(new ImmutableProduct(null, null), builder.build());
+	}
+
+	/**
+	 * Test that ResettableBuilder hands out independent mutable products.
+	 *
+	 * Verifies that getResult() returns a new Product on every call, and that
+	 * each thread gets its own builder from local().
+	 */
+	@Test
+	public void testResettableBuilderSharing() throws InterruptedException {
+		ResettableBuilder builder = new ResettableBuilder();
+		builder.buildPartA();
+		Product product = builder.getResult();
+		assertNotSame(product, builder.getResult());
+		product.setPartB("Modified");
+		assertEquals("Product [PartA: Part A built by ResettableBuilder, PartB: null]", builder.getResult().toString());
+
+		assertSame(ResettableBuilder.local(), ResettableBuilder.local());
+		ResettableBuilder[] other = new ResettableBuilder[1];
+		Thread thread = new Thread(() -> other[0] = ResettableBuilder.local());
+		thread.start();
+		thread.join();
+		assertNotSame(ResettableBuilder.local(), other[0]);
+	}
+
+	/**
+	 * Recipe building a product whose parts identify the specification.
+	 */
+	private static final BiConsumer<Integer, ResettableBuilder> NUMBERED = (spec, builder) ->
+		builder.partA("A" + spec).partB("B" + spec);
+
+	/**
+	 * Test ordered and unordered bulk construction with the StreamingDirector.
+	 *
+	 * Verifies that an ordered director emits one product per specification
+	 * in order, and that an unordered one emits the same products.
+	 */
+	@Test
+	public void testStreamingDirector() {
+		List<ImmutableProduct> expected = IntStream.range(0, 10_000)
+			.mapToObj(i -> new ImmutableProduct("A" + i, "B" + i)).toList();
+
+		StreamingDirector<Integer> ordered = new StreamingDirector<>(NUMBERED, 64, true);
+		assertEquals(expected, ordered.construct(IntStream.range(0, 10_000).boxed()).toList());
+
+		StreamingDirector<Integer> unordered = new StreamingDirector<>(NUMBERED, 64, false);
+		List<ImmutableProduct> products = unordered.construct(IntStream.range(0, 10_000).boxed()).toList();
+		assertEquals(expected.size(), products.size());
+		assertTrue(products.containsAll(expected));
+	}
+
+	/**
+	 * Test that the StreamingDirector reads a bounded number of specifications ahead.
+	 *
+	 * Verifies that taking the first products of a huge input only reads a
+	 * few batches of it, and that a failing recipe fails the stream.
+	 */
+	@Test
+	public void testStreamingDirectorBoundedReadAhead() {
+		AtomicInteger read = new AtomicInteger();
+		Spliterator<Integer> specs = Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()).spliterator();
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			StreamingDirector<Integer> director = new StreamingDirector<>(NUMBERED, executor, 2, 10, true);
+			try (Stream<ImmutableProduct> products = director.construct(specs)) {
+				assertEquals(List.of(new ImmutableProduct("A0", "B0"), new ImmutableProduct("A1", "B1")),
+				             products.limit(2).toList());
+			}
+			assertTrue(read.get() <= 2 * 2 * 10, "Read " + read.get() + " specifications ahead");
+
+			StreamingDirector<Integer> failing = new StreamingDirector<>((spec, builder) -> {
+				if (spec == 42) {
+					throw new IllegalStateException("Bad specification");
+				}
+			}, executor, 2, 10, false);
+			assertThrows(IllegalStateException.class, () -> failing.construct(IntStream.range(0, 100).boxed()).toList());
+		}
+	}
+
+	/**
+	 * Test product construction with the AsyncDirector and ConcreteAsyncBuilder.
+	 *
+	 * Verifies that the parts built asynchronously are assembled into a
+	 * complete Product, and that a failing part fails the construction.
+	 */
+	@Test
+	public void testAsyncProductConstruction() {
+		AsyncDirector director = new AsyncDirector(new ConcreteAsyncBuilder());
+		assertEquals("Product [PartA: Part A built by ConcreteAsyncBuilder, PartB: Part B built by ConcreteAsyncBuilder]",
+		             director.getProduct().toString());
+		assertNotSame(director.getProduct(), director.getProduct());
+
+		AsyncDirector failing = new AsyncDirector(new ConcreteAsyncBuilder() {
+			@Override
+			public CompletableFuture<String> buildPartB() {
+				return CompletableFuture.failedFuture(new IllegalStateException("Part B unavailable"));
+			}
+		});
+		assertThrows(IllegalStateException.class, failing::getProduct);
+	}
+
+	/**
+	 * Test that the AsyncDirector builds the parts concurrently.
+	 *
+	 * Each part waits for the other one to start, which only succeeds if
+	 * both are being built at the same time.
+	 */
+	@Test
+	public void testAsyncPartsRunConcurrently() {
+		CyclicBarrier bothStarted = new CyclicBarrier(2);
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			AsyncDirector director = new AsyncDirector(new ConcreteAsyncBuilder(executor) {
+				@Override
+				public CompletableFuture<String> buildPartA() {
+					return CompletableFuture.supplyAsync(() -> awaitOther(bothStarted, "A"), executor);
+				}
+
+				@Override
+				public CompletableFuture<String> buildPartB() {
+					return CompletableFuture.supplyAsync(() -> awaitOther(bothStarted, "B"), executor);
+				}
+			});
+			assertEquals("Product [PartA: A, PartB: B]", director.getProduct().toString());
+		}
+	}
+
+	/**
+	 * Waits for the other part to start building, then returns the part.
+	 */
+	private static String awaitOther(CyclicBarrier bothStarted, String part) {
+		try {
+			bothStarted.await(5, TimeUnit.SECONDS);
+			return part;
+		} catch (Exception e) {
+			throw new IllegalStateException("Parts were not built concurrently.", e);
+		}
+	}
 }
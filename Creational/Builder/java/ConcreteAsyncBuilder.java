@@ -0,0 +1,67 @@
+package Creational.Builder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Concrete implementation of the AsyncBuilder interface.
+ *
+ * Builds each part as a separate task on an executor and assembles the
+ * parts into a new Product, so the builder can be used for any number of
+ * products, including concurrently.
+ */
+public class ConcreteAsyncBuilder implements AsyncBuilder {
+	private final Executor executor; // Runs the building steps
+
+	/**
+	 * Constructs a builder running its steps on the common fork/join pool.
+	 */
+	public ConcreteAsyncBuilder() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a builder running its steps on an executor.
+	 * @param executor Runs the building steps.
+	 * @throws IllegalArgumentException if the executor is null.
+	 */
+	public ConcreteAsyncBuilder(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor cannot be null.");
+		}
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts building Part A of the product.
+	 * @return A future completed with a value defined by this builder.
+	 */
+	@Override
+	public CompletableFuture<String> buildPartA() {
+		return CompletableFuture.supplyAsync(() -> "Part A built by ConcreteAsyncBuilder", executor);
+	}
+
+	/**
+	 * Starts building Part B of the product.
+	 * @return A future completed with a value defined by this builder.
+	 */
+	@Override
+	public CompletableFuture<String> buildPartB() {
+		return CompletableFuture.supplyAsync(() -> "Part B built by ConcreteAsyncBuilder", executor);
+	}
+
+	/**
+	 * Assembles a new Product from its built parts.
+	 * @param partA Part A of the product.
+	 * @param partB Part B of the product.
+	 * @return A new Product instance.
+	 */
+	@Override
+	public Product assemble(String partA, String partB) {
+		Product product = new Product();
+		product.setPartA(partA);
+		product.setPartB(partB);
+		return product;
+	}
+}
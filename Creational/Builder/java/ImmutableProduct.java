@@ -0,0 +1,22 @@
+package Creational.Builder;
+
+/**
+ * Immutable counterpart of {@link Product}.
+ *
+ * Built by {@link ResettableBuilder}. Being immutable, an ImmutableProduct
+ * can be shared freely once built, and the builder can move on to the next
+ * product without handing out its own state.
+ * @param partA Part A of the product.
+ * @param partB Part B of the product.
+ */
+public record ImmutableProduct(String partA, String partB) {
+
+	/**
+	 * Provides a string representation of the product, in the same format as {@link Product}.
+	 * @return A string describing the product's parts.
+	 */
+	@Override
+	public String toString() {
+		return "Product [PartA: " + partA + ", PartB: " + partB + "]";
+	}
+}
@@ -0,0 +1,111 @@
+package Creational.Builder;
+
+/**
+ * Builder that can be reused for any number of products.
+ *
+ * {@link ConcreteBuilder} creates its Product up front and hands out that
+ * same mutable instance, so each product needs its own builder. This
+ * builder instead keeps the parts in its own fields while they are built
+ * and only allocates the final {@link ImmutableProduct} in {@link #build()},
+ * which then resets the builder for the next product. A builder is not
+ * thread-safe, but one builder per thread, from {@link #local()} or from an
+ * object pool calling {@link #reset()}, can build products indefinitely
+ * without allocating anything else.
+ */
+public class ResettableBuilder implements Builder {
+	private static final String PART_A = "Part A built by ResettableBuilder";
+	private static final String PART_B = "Part B built by ResettableBuilder";
+
+	// One builder per thread, for callers that do not manage their own.
+	private static final ThreadLocal<ResettableBuilder> LOCAL = ThreadLocal.withInitial(ResettableBuilder::new);
+
+	private String partA; // Part A of the product being built
+	private String partB; // Part B of the product being built
+
+	/**
+	 * Constructs a builder with no parts built.
+	 */
+	public ResettableBuilder() {
+		// Default constructor
+	}
+
+	/**
+	 * Gets the builder of the current thread.
+	 *
+	 * Callers must build each product completely before calling code that
+	 * may use the same builder.
+	 * @return The builder of the current thread, the same one on every call.
+	 */
+	public static ResettableBuilder local() {
+		return LOCAL.get();
+	}
+
+	/**
+	 * Builds Part A of the product.
+	 */
+	@Override
+	public void buildPartA() {
+		partA = PART_A;
+	}
+
+	/**
+	 * Builds Part B of the product.
+	 */
+	@Override
+	public void buildPartB() {
+		partB = PART_B;
+	}
+
+	/**
+	 * Sets Part A of the product to a given value, for products built from a specification.
+	 * @param value The value of Part A.
+	 * @return This builder.
+	 */
+	public ResettableBuilder partA(String value) {
+		partA = value;
+		return this;
+	}
+
+	/**
+	 * Sets Part B of the product to a given value, for products built from a specification.
+	 * @param value The value of Part B.
+	 * @return This builder.
+	 */
+	public ResettableBuilder partB(String value) {
+		partB = value;
+		return this;
+	}
+
+	/**
+	 * Creates the product from the parts built so far and resets the builder.
+	 * @return A new immutable product.
+	 */
+	public ImmutableProduct build() {
+		ImmutableProduct product = new ImmutableProduct(partA, partB);
+		reset();
+		return product;
+	}
+
+	/**
+	 * Discards the parts built so far.
+	 */
+	public void reset() {
+		partA = null;
+		partB = null;
+	}
+
+	/**
+	 * Retrieves a mutable copy of the product built so far, for code written against {@link Builder}.
+	 *
+	 * Unlike {@link #build()}, the builder keeps its parts, and each call
+	 * returns a new Product that callers may modify on their own.
+	 * @return A new Product with the parts built so far.
+	 */
+	@Override
+	public Product getResult() {
+		Product product = new Product();
+		product.setPartA(partA);
+		product.setPartB(partB);
+		return product;
+	}
+}
@@ -0,0 +1,229 @@
+package Creational.Builder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Director constructing products in bulk, in parallel, from a stream of specifications.
+ *
+ * Where {@link Director#construct()} builds one product per call, this
+ * director reads specifications from a {@link Stream} or
+ * {@link Spliterator}, groups them in batches, and builds the batches in
+ * parallel on an executor. A recipe applies each specification to a
+ * {@link ResettableBuilder}; every worker thread uses its own builder,
+ * {@link ResettableBuilder#local()}, so workers share nothing and allocate
+ * only the products.
+ *
+ * The products are returned as a lazy stream. Ordered directors emit them
+ * in the order of the specifications; unordered ones emit each batch as
+ * soon as it is built, so a slow batch does not hold back the others.
+ * Either way, at most twice the parallelism in batches is read ahead of
+ * the consumer, which bounds memory however long the input is.
+ * @param <S> The type of the specifications.
+ */
+public class StreamingDirector<S> {
+	private final BiConsumer<? super S, ? super ResettableBuilder> recipe; // Builds the parts of one product
+	private final Executor executor; // Runs the batches
+	private final int maxInFlight;   // Maximum number of batches read ahead of the consumer
+	private final int batchSize;     // Number of specifications per batch
+	private final boolean ordered;   // Whether products are emitted in specification order
+
+	/**
+	 * Constructs a director running on the common fork/join pool.
+	 * @param recipe Applies a specification to a builder, which then builds the product.
+	 * @param batchSize The number of specifications built together by a worker.
+	 * @param ordered Whether products are emitted in the order of the specifications.
+	 * @throws IllegalArgumentException if the recipe is null or batchSize is not positive.
+	 */
+	public StreamingDirector(BiConsumer<? super S, ? super ResettableBuilder> recipe, int batchSize, boolean ordered) {
+		this(recipe, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), batchSize, ordered);
+	}
+
+	/**
+	 * Constructs a director.
+	 * @param recipe Applies a specification to a builder, which then builds the product.
+	 * @param executor Runs the batches.
+	 * @param parallelism The number of batches built at the same time, usually the executor's number of threads.
+	 * @param batchSize The number of specifications built together by a worker.
+	 * @param ordered Whether products are emitted in the order of the specifications.
+	 * @throws IllegalArgumentException if the recipe or executor is null, or parallelism or batchSize is not positive.
+	 */
+	public StreamingDirector(BiConsumer<? super S, ? super ResettableBuilder> recipe, Executor executor,
+			int parallelism, int batchSize, boolean ordered) {
+		if (recipe == null || executor == null) {
+			throw new IllegalArgumentException("Recipe and executor cannot be null.");
+		}
+		if (parallelism <= 0 || batchSize <= 0) {
+			throw new IllegalArgumentException("Parallelism and batch size must be positive.");
+		}
+		this.recipe = recipe;
+		this.executor = executor;
+		this.maxInFlight = 2 * parallelism;
+		this.batchSize = batchSize;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Constructs one product per specification.
+	 *
+	 * Specifications are read as the returned stream is consumed. Close the
+	 * returned stream to stop early; this also closes the given stream.
+	 * @param specs The specifications, read once, sequentially.
+	 * @return A lazy stream of the products.
+	 * @throws RuntimeException from the returned stream, the first exception thrown by the recipe.
+	 */
+	public Stream<ImmutableProduct> construct(Stream<? extends S> specs) {
+		return construct(specs.spliterator()).onClose(specs::close);
+	}
+
+	/**
+	 * Constructs one product per specification.
+	 *
+	 * Specifications are read as the returned stream is consumed. Close the
+	 * returned stream to stop early.
+	 * @param specs The specifications, read once, sequentially.
+	 * @return A lazy stream of the products.
+	 * @throws RuntimeException from the returned stream, the first exception thrown by the recipe.
+	 */
+	public Stream<ImmutableProduct> construct(Spliterator<? extends S> specs) {
+		Batches batches = new Batches(specs);
+		int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, characteristics), false)
+			.flatMap(List::stream)
+			.onClose(batches::cancel);
+	}
+
+	/**
+	 * Builds the products of one batch with the builder of the current thread.
+	 */
+	private List<ImmutableProduct> build(List<S> batch) {
+		ResettableBuilder builder = ResettableBuilder.local();
+		builder.reset(); // Discards the parts left by a recipe that failed on this thread
+		List<ImmutableProduct> products = new ArrayList<>(batch.size());
+		for (S spec : batch) {
+			recipe.accept(spec, builder);
+			products.add(builder.build());
+		}
+		return products;
+	}
+
+	/**
+	 * Reads batches of specifications ahead, submits them and yields their products.
+	 *
+	 * Only used by the thread consuming the stream, apart from the completed
+	 * queue which workers fill.
+	 */
+	private final class Batches implements Iterator<List<ImmutableProduct>> {
+		private final Spliterator<? extends S> specs;
+		private final Deque<CompletableFuture<List<ImmutableProduct>>> pending;     // Submitted, in submission order
+		private final BlockingQueue<CompletableFuture<List<ImmutableProduct>>> completed; // Done, in completion order
+		private List<ImmutableProduct> next; // Products to yield next, once known
+		private boolean exhausted;           // Whether all specifications were read
+
+		Batches(Spliterator<? extends S> specs) {
+			this.specs = specs;
+			this.pending = new ArrayDeque<>();
+			this.completed = new LinkedBlockingQueue<>();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null) {
+				submit();
+				if (pending.isEmpty()) {
+					return false;
+				}
+				next = take();
+			}
+			return true;
+		}
+
+		@Override
+		public List<ImmutableProduct> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<ImmutableProduct> products = next;
+			next = null;
+			return products;
+		}
+
+		/**
+		 * Reads and submits batches until enough are in flight or the specifications run out.
+		 */
+		private void submit() {
+			while (!exhausted && pending.size() < maxInFlight) {
+				List<S> batch = new ArrayList<>(batchSize);
+				while (batch.size() < batchSize && specs.tryAdvance(batch::add)) {
+					// Reads the next specification into the batch
+				}
+				if (batch.size() < batchSize) {
+					exhausted = true;
+				}
+				if (batch.isEmpty()) {
+					return;
+				}
+				CompletableFuture<List<ImmutableProduct>> future = CompletableFuture.supplyAsync(() -> build(batch), executor);
+				pending.addLast(future);
+				if (!ordered) {
+					future.whenComplete((products, failure) -> completed.add(future));
+				}
+			}
+		}
+
+		/**
+		 * Waits for the next batch to yield, the oldest one if ordered, else the first one built.
+		 */
+		private List<ImmutableProduct> take() {
+			CompletableFuture<List<ImmutableProduct>> future;
+			if (ordered) {
+				future = pending.pollFirst();
+			} else {
+				try {
+					future = completed.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancel();
+					throw new IllegalStateException("Interrupted while waiting for products.", e);
+				}
+				pending.remove(future);
+			}
+			try {
+				return future.join();
+			} catch (CompletionException e) {
+				cancel();
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * Stops reading specifications and drops the batches not yielded yet.
+		 */
+		void cancel() {
+			exhausted = true;
+			for (CompletableFuture<List<ImmutableProduct>> future : pending) {
+				future.cancel(false); // Batches already running finish, but their products are discarded
+			}
+			pending.clear();
+			completed.clear();
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package Creational.FactoryMethod;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creator decorator that builds products ahead of time on background workers.
+ *
+ * AsyncCreator keeps a bounded buffer of ready products, refilled by a
+ * fixed number of worker threads calling the wrapped creator. Taking a
+ * product from the buffer is immediate, so callers only wait for
+ * construction when they drain the buffer faster than the workers refill
+ * it. {@link #createProductAsync()} never blocks: it returns a completed
+ * future when a product is ready, and otherwise a future completed by the
+ * next worker to finish.
+ *
+ * The factory method of the wrapped creator must be safe to call from
+ * several threads at once. Close the creator to stop its workers.
+ */
+public class AsyncCreator extends Creator implements AutoCloseable {
+	private final Creator delegate;                          // Builds the products
+	private final int capacity;                              // Maximum number of buffered products
+	private final int workers;                               // Maximum number of products built at once
+	private final ExecutorService executor;                  // Runs the workers
+	private final ReentrantLock lock;                        // Guards all fields below
+	private final Deque<Product> ready;                      // Built products, oldest first
+	private final Deque<CompletableFuture<Product>> waiting; // Callers waiting for a product, oldest first
+	private int inFlight;                                    // Products being built
+	private boolean closed;                                  // Whether close() was called
+
+	/**
+	 * Constructs an async creator and starts filling its buffer.
+	 *
+	 * @param delegate The creator building the products.
+	 * @param capacity The number of products kept ready.
+	 * @param workers The number of background threads building products.
+	 * @throws IllegalArgumentException if the delegate is null or capacity or workers is not positive.
+	 */
+	public AsyncCreator(Creator delegate, int capacity, int workers) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate creator cannot be null.");
+		}
+		if (capacity <= 0 || workers <= 0) {
+			throw new IllegalArgumentException("Capacity and number of workers must be positive.");
+		}
+		this.delegate = delegate;
+		this.capacity = capacity;
+		this.workers = workers;
+		this.executor = Executors.newFixedThreadPool(workers,
+			Thread.ofPlatform().name("async-creator-", 0).daemon().factory());
+		this.lock = new ReentrantLock();
+		this.ready = new ArrayDeque<>();
+		this.waiting = new ArrayDeque<>();
+		lock.lock();
+		try {
+			refill();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a product from the buffer, or arranges to receive the next one built.
+	 *
+	 * @return A future completed with a product, already completed if one was ready;
+	 *         it completes exceptionally if building the product fails or the creator is closed.
+	 */
+	public CompletableFuture<Product> createProductAsync() {
+		lock.lock();
+		try {
+			if (closed) {
+				return CompletableFuture.failedFuture(new IllegalStateException("AsyncCreator is closed."));
+			}
+			Product product = ready.pollFirst();
+			CompletableFuture<Product> future;
+			if (product != null) {
+				future = CompletableFuture.completedFuture(product);
+			} else {
+				future = new CompletableFuture<>();
+				waiting.addLast(future);
+			}
+			refill();
+			return future;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a product from the buffer, waiting for one to be built if it is empty.
+	 *
+	 * @return A product of the wrapped creator.
+	 * @throws IllegalStateException if the creator is closed.
+	 */
+	@Override
+	public Product createProduct() {
+		try {
+			return createProductAsync().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Gets the number of products ready to be taken.
+	 *
+	 * @return The number of buffered products.
+	 */
+	public int getReadyCount() {
+		lock.lock();
+		try {
+			return ready.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the workers and fails the callers still waiting for a product.
+	 *
+	 * Buffered products are discarded.
+	 */
+	@Override
+	public void close() {
+		Deque<CompletableFuture<Product>> abandoned;
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			ready.clear();
+			abandoned = new ArrayDeque<>(waiting);
+			waiting.clear();
+		} finally {
+			lock.unlock();
+		}
+		executor.shutdownNow();
+		for (CompletableFuture<Product> future : abandoned) {
+			future.completeExceptionally(new IllegalStateException("AsyncCreator is closed."));
+		}
+	}
+
+	/**
+	 * Starts workers until the buffer and the waiting callers will be served.
+	 *
+	 * Must be called with the lock held.
+	 */
+	private void refill() {
+		while (!closed && inFlight < workers && ready.size() + inFlight < capacity + waiting.size()) {
+			inFlight++;
+			executor.execute(this::build);
+		}
+	}
+
+	/**
+	 * Builds one product and hands it to the oldest waiting caller, or buffers it.
+	 */
+	private void build() {
+		Product product = null;
+		Throwable failure = null;
+		try {
+			product = delegate.createProduct();
+			if (product == null) {
+				failure = new IllegalStateException("Delegate creator returned null.");
+			}
+		} catch (Throwable e) { // Errors too, or the worker slot and the waiting caller would be lost
+			failure = e;
+		}
+
+		CompletableFuture<Product> waiter;
+		lock.lock();
+		try {
+			inFlight--;
+			waiter = waiting.pollFirst();
+			if (waiter == null && failure == null && !closed) {
+				ready.addLast(product);
+			}
+			if (failure == null || !waiting.isEmpty()) {
+				refill(); // After a failure, only retry for callers who are still waiting
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (waiter != null) { // Complete outside the lock, the caller's callbacks run here
+			if (failure != null) {
+				waiter.completeExceptionally(failure);
+			} else if (!waiter.complete(product)) {
+				handOver(product); // The caller cancelled or timed out meanwhile, keep the product
+			}
+		}
+		if (failure instanceof Error error) {
+			throw error; // Reported by the worker thread once the bookkeeping is done
+		}
+	}
+
+	/**
+	 * Gives a product to the next waiting caller that still wants it, or buffers it.
+	 */
+	private void handOver(Product product) {
+		while (true) {
+			CompletableFuture<Product> waiter;
+			lock.lock();
+			try {
+				waiter = waiting.pollFirst();
+				if (waiter == null) {
+					if (!closed) {
+						ready.addLast(product);
+					}
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+			if (waiter.complete(product)) {
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package Creational.FactoryMethod;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creator decorator that avoids creating a new product on every call.
+ *
+ * CachingCreator wraps another creator and reuses its products where that
+ * is safe:
+ * - Products marked {@link StatelessProduct} are created once and the same
+ *   instance is returned by every later call.
+ * - {@link RecyclableProduct}s handed back through `releaseProduct` are
+ *   reset and kept, up to a fixed number, and handed out again before new
+ *   ones are created. Like an object pool, the creator rejects a recyclable
+ *   product released twice or created elsewhere.
+ * - Any other product is created anew on every call, as before.
+ *
+ * `someOperation` releases its product when done, so calling it in a loop
+ * allocates no products once the cache is warm.
+ *
+ * The wrapped creator is expected to always return the same product class,
+ * as a factory method does.
+ */
+public class CachingCreator extends Creator {
+	// Whether a product class is annotated as stateless, looked up once per class.
+	private static final ClassValue<Boolean> STATELESS = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return type.isAnnotationPresent(StatelessProduct.class);
+		}
+	};
+
+	private final Creator delegate;                 // Creates the products that are not reused
+	private final int maxRecycled;                  // Upper bound on recycled.size()
+	private final Deque<RecyclableProduct> recycled; // Released products ready for reuse
+	private final IssuedProducts issued;            // Recyclable products handed out and not released
+	private final ReentrantLock lock;               // Guards recycled and issued
+	private volatile Product shared;                // The stateless product, once created
+
+	/**
+	 * Constructs a caching creator.
+	 *
+	 * @param delegate The creator whose products are cached.
+	 * @param maxRecycled The maximum number of released recyclable products kept for reuse.
+	 * @throws IllegalArgumentException if the delegate is null or maxRecycled is negative.
+	 */
+	public CachingCreator(Creator delegate, int maxRecycled) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate creator cannot be null.");
+		}
+		if (maxRecycled < 0) {
+			throw new IllegalArgumentException("Maximum number of recycled products cannot be negative.");
+		}
+		this.delegate = delegate;
+		this.maxRecycled = maxRecycled;
+		this.recycled = new ArrayDeque<>();
+		this.issued = new IssuedProducts();
+		this.lock = new ReentrantLock();
+	}
+
+	/**
+	 * Returns the shared stateless product, a recycled product, or a new one.
+	 *
+	 * @return A product of the wrapped creator.
+	 */
+	@Override
+	public Product createProduct() {
+		Product product = shared;
+		if (product != null) {
+			return product;
+		}
+		lock.lock();
+		try {
+			RecyclableProduct recyclable = recycled.pollLast();
+			if (recyclable != null) {
+				issued.add(recyclable);
+				return recyclable;
+			}
+		} finally {
+			lock.unlock();
+		}
+		product = delegate.createProduct();
+		if (STATELESS.get(product.getClass())) {
+			shared = product; // A racing thread may publish its own copy, any of them will do
+		} else if (product instanceof RecyclableProduct recyclable) {
+			lock.lock();
+			try {
+				issued.add(recyclable);
+			} finally {
+				lock.unlock();
+			}
+		}
+		return product;
+	}
+
+	/**
+	 * Fills a range with products, sharing one instance across the whole range for stateless products.
+	 *
+	 * @param products The array to fill.
+	 * @param from The first index to fill, inclusive.
+	 * @param to The last index to fill, exclusive.
+	 */
+	@Override
+	protected void createProducts(Product[] products, int from, int to) {
+		if (from < to && shared == null) {
+			products[from++] = createProduct(); // Tells whether the product is stateless
+		}
+		Product product = shared;
+		if (product != null) {
+			Arrays.fill(products, from, to, product);
+		} else {
+			super.createProducts(products, from, to);
+		}
+	}
+
+	/**
+	 * Takes back a product for reuse.
+	 *
+	 * Recyclable products are reset and kept if there is room; other
+	 * products are left to the garbage collector. A product must not be
+	 * used after it has been released.
+	 *
+	 * @param product A product created by this creator.
+	 * @throws IllegalArgumentException if a recyclable product was not handed out by this creator, or was already released.
+	 */
+	@Override
+	public void releaseProduct(Product product) {
+		if (!(product instanceof RecyclableProduct recyclable) || product == shared) {
+			return;
+		}
+		lock.lock();
+		try {
+			if (!issued.remove(recyclable)) {
+				throw new IllegalArgumentException("Product was not created by this creator or was already released.");
+			}
+		} finally {
+			lock.unlock();
+		}
+		recyclable.reset(); // Reset outside the lock, it may be expensive
+		lock.lock();
+		try {
+			if (recycled.size() < maxRecycled) {
+				recycled.addLast(recyclable);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of released products waiting for reuse.
+	 *
+	 * @return The number of recycled products currently kept.
+	 */
+	public int getRecycledCount() {
+		lock.lock();
+		try {
+			return recycled.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Weakly held set of products compared by identity rather than equals.
+	 *
+	 * A product that is never released is not kept alive: once collected, its
+	 * entry is dropped on the next add or remove. Not thread-safe, used under
+	 * the creator's lock.
+	 */
+	private static final class IssuedProducts {
+		private final Map<Integer, List<Entry>> entries;          // Entries by identity hash code of their product
+		private final ReferenceQueue<RecyclableProduct> collected; // Entries whose product was collected
+
+		/**
+		 * Weak reference to an issued product, remembering where it is stored.
+		 */
+		private static final class Entry extends WeakReference<RecyclableProduct> {
+			private final int hash; // Identity hash code of the product
+
+			Entry(RecyclableProduct product, int hash, ReferenceQueue<RecyclableProduct> queue) {
+				super(product, queue);
+				this.hash = hash;
+			}
+		}
+
+		IssuedProducts() {
+			this.entries = new HashMap<>();
+			this.collected = new ReferenceQueue<>();
+		}
+
+		/**
+		 * Adds a product that is not in the set.
+		 */
+		void add(RecyclableProduct product) {
+			expunge();
+			int hash = System.identityHashCode(product);
+			entries.computeIfAbsent(hash, h -> new ArrayList<>(1)).add(new Entry(product, hash, collected));
+		}
+
+		/**
+		 * Removes a product.
+		 *
+		 * @return Whether this very instance was in the set.
+		 */
+		boolean remove(RecyclableProduct product) {
+			expunge();
+			int hash = System.identityHashCode(product);
+			List<Entry> bucket = entries.get(hash);
+			if (bucket != null) {
+				for (int i = 0; i < bucket.size(); i++) {
+					if (bucket.get(i).get() == product) {
+						bucket.remove(i);
+						if (bucket.isEmpty()) {
+							entries.remove(hash);
+						}
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Drops the entries of collected products.
+		 */
+		private void expunge() {
+			for (Object ref; (ref = collected.poll()) != null; ) {
+				Entry entry = (Entry) ref;
+				List<Entry> bucket = entries.get(entry.hash);
+				if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+					entries.remove(entry.hash);
+				}
+			}
+		}
+	}
+}
@@ -6,7 +6,10 @@ package Creational.FactoryMethod;
  * ConcreteProductA represents a specific type of product that implements
  * the behavior defined in the Product interface. It provides a unique
  * implementation for the `use` method.
+ * 
+ * It has no state, so it is marked as a {@link StatelessProduct}.
  */
+@StatelessProduct
 public class ConcreteProductA implements Product {
 
 	/**
@@ -6,7 +6,10 @@ package Creational.FactoryMethod;
  * ConcreteProductB represents a specific type of product that implements
  * the behavior defined in the Product interface. It provides a unique
  * implementation for the `use` method.
+ * 
+ * It has no state, so it is marked as a {@link StatelessProduct}.
  */
+@StatelessProduct
 public class ConcreteProductB implements Product {
 
 	/**
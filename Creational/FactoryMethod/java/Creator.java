@@ -1,5 +1,8 @@
 package Creational.FactoryMethod;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Abstract Creator class in the Factory Method design pattern.
  * 
@@ -9,6 +12,8 @@ package Creational.FactoryMethod;
  * utilizes the product created by the factory method.
  */
 public abstract class Creator {
+	// Smallest range worth handing to a fork/join worker.
+	private static final int MIN_PARALLEL_RANGE = 1024;
 
 	/**
 	 * Default constructor for Creator.
@@ -29,6 +34,61 @@ public abstract class Creator {
 	 */
 	public abstract Product createProduct();
 
+	/**
+	 * Creates several products at once.
+	 * 
+	 * @param n The number of products to create.
+	 * @return An array of n products; creators that reuse products, such as
+	 *         {@link CachingCreator}, may return the same instance in several slots.
+	 * @throws IllegalArgumentException if n is negative.
+	 */
+	public Product[] createProducts(int n) {
+		Product[] products = newProductArray(n);
+		createProducts(products, 0, n);
+		return products;
+	}
+
+	/**
+	 * Creates several products at once, splitting the work across the
+	 * common fork/join pool.
+	 * 
+	 * The array is split into ranges that fork/join workers fill with
+	 * `createProducts(Product[], int, int)`; small batches are filled on the
+	 * calling thread. The factory method must be safe to call from several
+	 * threads at once.
+	 * 
+	 * @param n The number of products to create.
+	 * @return An array of n products; creators that reuse products, such as
+	 *         {@link CachingCreator}, may return the same instance in several slots.
+	 * @throws IllegalArgumentException if n is negative.
+	 */
+	public Product[] createProductsParallel(int n) {
+		Product[] products = newProductArray(n);
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		int leafSize = Math.max(MIN_PARALLEL_RANGE, n / (4 * parallelism)); // Some slack for work stealing
+		ForkJoinPool.commonPool().invoke(new CreateRange(products, 0, n, leafSize));
+		return products;
+	}
+
+	/**
+	 * Fills a range of an array with products.
+	 * 
+	 * This is the bulk counterpart of the factory method, used by both
+	 * `createProducts` variants. The default implementation calls
+	 * `createProduct` for each slot; subclasses can override it with a
+	 * faster bulk path, for example one that amortizes setup over the range.
+	 * It may be called concurrently on disjoint ranges.
+	 * 
+	 * @param products The array to fill.
+	 * @param from The first index to fill, inclusive.
+	 * @param to The last index to fill, exclusive.
+	 */
+	protected void createProducts(Product[] products, int from, int to) {
+		for (int i = from; i < to; i++) {
+			products[i] = createProduct();
+		}
+	}
+
 	/**
 	 * A common operation that demonstrates the use of the product.
 	 * 
@@ -39,6 +99,62 @@ public abstract class Creator {
 	 */
 	public void someOperation() {
 		Product product = createProduct();
-		System.out.println(product.use());
+		try {
+			System.out.println(product.use());
+		} finally {
+			releaseProduct(product);
+		}
+	}
+
+	/**
+	 * Hands back a product that the caller no longer uses.
+	 * 
+	 * Called by `someOperation` once it is done with its product. The
+	 * default implementation does nothing; creators that reuse products,
+	 * such as {@link CachingCreator}, take the product back here.
+	 * 
+	 * @param product A product created by this creator.
+	 */
+	public void releaseProduct(Product product) {
+		// Products are not reused by default
+	}
+
+	/**
+	 * Allocates the result array of a bulk creation.
+	 */
+	private static Product[] newProductArray(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Number of products cannot be negative.");
+		}
+		return new Product[n];
+	}
+
+	/**
+	 * Fork/join task filling a range of the result array, split in halves down to the leaf size.
+	 */
+	@SuppressWarnings("serial") // Never serialized
+	private final class CreateRange extends RecursiveAction {
+		private final Product[] products;
+		private final int from;
+		private final int to;
+		private final int leafSize;
+
+		CreateRange(Product[] products, int from, int to, int leafSize) {
+			this.products = products;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= leafSize) {
+				createProducts(products, from, to);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new CreateRange(products, from, middle, leafSize),
+				new CreateRange(products, middle, to, leafSize));
+		}
 	}
 }
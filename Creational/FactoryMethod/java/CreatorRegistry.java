@@ -0,0 +1,169 @@
+package Creational.FactoryMethod;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry that creates products by key, for creators chosen at runtime.
+ *
+ * Selecting a product class by name and instantiating it reflectively on
+ * every call is slow: each call checks access and goes through the
+ * reflection machinery. This registry instead resolves the product's
+ * no-argument constructor once, at registration, and turns it with
+ * {@link LambdaMetafactory} into a {@code Supplier<Product>} whose
+ * {@code get()} is a plain constructor call. Once the JIT has inlined it,
+ * creating a product by key costs a hash lookup plus the equivalent of
+ * {@code new}.
+ *
+ * {@link #getCreator(String)} wraps a registered product in a
+ * {@link Creator}, so code written against the Factory Method pattern can
+ * use the registry unchanged.
+ */
+public class CreatorRegistry {
+	private final Map<String, Supplier<Product>> suppliers; // Bound product constructors by key
+	private final Map<String, Creator> creators; // Creators handed out by getCreator, by key
+
+	/**
+	 * Constructs an empty registry.
+	 */
+	public CreatorRegistry() {
+		this.suppliers = new ConcurrentHashMap<>();
+		this.creators = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Registers a product class under a key.
+	 *
+	 * The class must have a no-argument constructor accessible from this
+	 * package; it is bound once, here.
+	 *
+	 * @param key The key used to create the product.
+	 * @param productType The concrete product class.
+	 * @throws IllegalArgumentException if an argument is null, the key is taken, or the class has no usable constructor.
+	 */
+	public void register(String key, Class<? extends Product> productType) {
+		if (key == null || productType == null) {
+			throw new IllegalArgumentException("Key and product type cannot be null.");
+		}
+		register(key, bind(productType));
+	}
+
+	/**
+	 * Registers a product class, given by its fully qualified name, under a key.
+	 *
+	 * Useful when product classes come from configuration. The class is
+	 * loaded and bound once, here.
+	 *
+	 * @param key The key used to create the product.
+	 * @param productClassName The fully qualified name of the concrete product class.
+	 * @throws IllegalArgumentException if the class cannot be found or is not a product, or as for {@link #register(String, Class)}.
+	 */
+	public void register(String key, String productClassName) {
+		if (productClassName == null) {
+			throw new IllegalArgumentException("Product class name cannot be null.");
+		}
+		Class<?> type;
+		try {
+			type = Class.forName(productClassName);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException("Product class not found: " + productClassName, e);
+		}
+		if (!Product.class.isAssignableFrom(type)) {
+			throw new IllegalArgumentException(productClassName + " does not implement Product.");
+		}
+		register(key, type.asSubclass(Product.class));
+	}
+
+	/**
+	 * Registers a supplier of products under a key.
+	 *
+	 * @param key The key used to create the product.
+	 * @param supplier Creates the products, for instance a constructor reference.
+	 * @throws IllegalArgumentException if an argument is null or the key is taken.
+	 */
+	public void register(String key, Supplier<Product> supplier) {
+		if (key == null || supplier == null) {
+			throw new IllegalArgumentException("Key and supplier cannot be null.");
+		}
+		if (suppliers.putIfAbsent(key, supplier) != null) {
+			throw new IllegalArgumentException("A product is already registered under key: " + key);
+		}
+	}
+
+	/**
+	 * Creates a product by key.
+	 *
+	 * @param key The key the product was registered under.
+	 * @return A new product.
+	 * @throws IllegalArgumentException if no product is registered under the key.
+	 */
+	public Product createProduct(String key) {
+		return getSupplier(key).get();
+	}
+
+	/**
+	 * Gets the bound constructor registered under a key.
+	 *
+	 * Callers on a hot path can keep the supplier and skip the key lookup.
+	 *
+	 * @param key The key the product was registered under.
+	 * @return The supplier creating the product.
+	 * @throws IllegalArgumentException if no product is registered under the key.
+	 */
+	public Supplier<Product> getSupplier(String key) {
+		Supplier<Product> supplier = key == null ? null : suppliers.get(key);
+		if (supplier == null) {
+			throw new IllegalArgumentException("No product registered under key: " + key);
+		}
+		return supplier;
+	}
+
+	/**
+	 * Gets a creator whose factory method creates the product registered under a key.
+	 *
+	 * @param key The key the product was registered under.
+	 * @return A creator for the product, the same one on every call.
+	 * @throws IllegalArgumentException if no product is registered under the key.
+	 */
+	public Creator getCreator(String key) {
+		Supplier<Product> supplier = getSupplier(key);
+		return creators.computeIfAbsent(key, k -> new Creator() {
+			@Override
+			public Product createProduct() {
+				return supplier.get();
+			}
+		});
+	}
+
+	/**
+	 * Binds the no-argument constructor of a product class into a supplier.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Supplier<Product> bind(Class<? extends Product> productType) {
+		if (productType.isInterface() || Modifier.isAbstract(productType.getModifiers())) {
+			throw new IllegalArgumentException(productType.getName() + " is not a concrete class.");
+		}
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle constructor = lookup.findConstructor(productType, MethodType.methodType(void.class));
+			CallSite site = LambdaMetafactory.metafactory(lookup,
+				"get",
+				MethodType.methodType(Supplier.class),
+				MethodType.methodType(Object.class), // Erased signature of Supplier.get
+				constructor,
+				MethodType.methodType(productType));
+			return (Supplier<Product>) site.getTarget().invokeExact();
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalArgumentException(productType.getName() + " has no accessible no-argument constructor.", e);
+		} catch (Throwable e) {
+			throw new IllegalArgumentException("Cannot bind the constructor of " + productType.getName() + ".", e);
+		}
+	}
+}
@@ -1,10 +1,86 @@
 package Creational.FactoryMethod;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class FactoryMethodTest {
+	/** Product with state that can be reset. */
+	static class Counter implements RecyclableProduct {
+		int uses;
+
+		@Override
+		public String use() {
+			return "Used " + ++uses + " times";
+		}
+
+		@Override
+		public void reset() {
+			uses = 0;
+		}
+	}
+
+	/** Recyclable product whose instances are all equal to each other. */
+	static class Token implements RecyclableProduct {
+		@Override
+		public String use() {
+			return "Using Token";
+		}
+
+		@Override
+		public void reset() {
+			// Nothing to clear
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Token;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+
+	/** Product with state that cannot be reset. */
+	static class Snapshot implements Product {
+		@Override
+		public String use() {
+			return "Using Snapshot";
+		}
+	}
+
+	/** Creator counting the products it creates. */
+	static class CountingCreator extends Creator {
+		final AtomicInteger created = new AtomicInteger();
+		private final Supplier<Product> factory;
+
+		CountingCreator(Supplier<Product> factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public Product createProduct() {
+			created.incrementAndGet();
+			return factory.get();
+		}
+	}
+
 	@Test
 	void testConcreteProductA() {
 		Creator creatorA = new ConcreteCreatorA();
@@ -18,4 +94,276 @@ public class FactoryMethodTest {
 		Product productB = creatorB.createProduct();
 		assertEquals("Using ConcreteProductB", productB.use());
 	}
+
+	@Test
+	void testCreatorRegistryCreatesProductsByKey() {
+		CreatorRegistry registry = new CreatorRegistry();
+		registry.register("A", ConcreteProductA.class);
+		registry.register("B", "Creational.FactoryMethod.ConcreteProductB");
+
+		assertEquals("Using ConcreteProductA", registry.createProduct("A").use());
+		assertEquals("Using ConcreteProductB", registry.createProduct("B").use());
+		assertNotSame(registry.createProduct("A"), registry.createProduct("A"));
+		assertEquals("Using ConcreteProductB", registry.getCreator("B").createProduct().use());
+		assertSame(registry.getCreator("B"), registry.getCreator("B"));
+	}
+
+	@Test
+	void testCreatorRegistryRejectsInvalidRegistrations() {
+		CreatorRegistry registry = new CreatorRegistry();
+		registry.register("A", ConcreteProductA.class);
+
+		assertThrows(IllegalArgumentException.class, () -> registry.register("A", ConcreteProductB.class));
+		assertThrows(IllegalArgumentException.class, () -> registry.register("P", Product.class));
+		assertThrows(IllegalArgumentException.class, () -> registry.register("S", "java.lang.String"));
+		assertThrows(IllegalArgumentException.class, () -> registry.register("X", "Creational.FactoryMethod.Missing"));
+		assertThrows(IllegalArgumentException.class, () -> registry.createProduct("unknown"));
+	}
+
+	@Test
+	void testCachingCreatorSharesStatelessProducts() {
+		CountingCreator counting = new CountingCreator(ConcreteProductA::new);
+		Creator creator = new CachingCreator(counting, 4);
+
+		assertSame(creator.createProduct(), creator.createProduct());
+		assertEquals(1, counting.created.get());
+	}
+
+	@Test
+	void testCachingCreatorRecyclesReleasedProducts() {
+		CountingCreator counting = new CountingCreator(Counter::new);
+		CachingCreator creator = new CachingCreator(counting, 1);
+
+		Product first = creator.createProduct();
+		first.use();
+		creator.releaseProduct(first);
+		assertEquals(1, creator.getRecycledCount());
+
+		Product second = creator.createProduct();
+		assertSame(first, second);
+		assertEquals("Used 1 times", second.use(), "A recycled product should be reset.");
+		assertNotSame(second, creator.createProduct(), "An empty cache should create a new product.");
+
+		Product third = creator.createProduct();
+		creator.releaseProduct(second);
+		creator.releaseProduct(third);
+		assertEquals(1, creator.getRecycledCount(), "The cache should not grow beyond its bound.");
+	}
+
+	@Test
+	void testCachingCreatorRejectsDoubleAndForeignRelease() {
+		CachingCreator creator = new CachingCreator(new CountingCreator(Counter::new), 4);
+
+		Product product = creator.createProduct();
+		creator.releaseProduct(product);
+		assertThrows(IllegalArgumentException.class, () -> creator.releaseProduct(product),
+			"A product released twice should be rejected.");
+		assertEquals(1, creator.getRecycledCount(), "A product should be recycled only once.");
+		assertThrows(IllegalArgumentException.class, () -> creator.releaseProduct(new Counter()),
+			"A product created elsewhere should be rejected.");
+
+		Product reused = creator.createProduct();
+		assertSame(product, reused);
+		assertNotSame(reused, creator.createProduct(), "A recycled product should be handed out once.");
+		creator.releaseProduct(reused);
+	}
+
+	@Test
+	void testCachingCreatorTracksEqualProductsSeparately() {
+		CachingCreator creator = new CachingCreator(new CountingCreator(Token::new), 4);
+
+		Product first = creator.createProduct();
+		Product second = creator.createProduct();
+		assertEquals(first, second);
+		assertNotSame(first, second);
+		creator.releaseProduct(first);
+		assertDoesNotThrow(() -> creator.releaseProduct(second), "An equal product still outstanding should be accepted.");
+		assertEquals(2, creator.getRecycledCount(), "Both products should be recycled.");
+		assertThrows(IllegalArgumentException.class, () -> creator.releaseProduct(new Token()),
+			"An equal product created elsewhere should be rejected.");
+	}
+
+	@Test
+	void testCachingCreatorSomeOperationStopsCreating() {
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			CountingCreator stateless = new CountingCreator(ConcreteProductB::new);
+			CountingCreator recyclable = new CountingCreator(Counter::new);
+			CountingCreator plain = new CountingCreator(Snapshot::new);
+			Creator[] creators = {
+				new CachingCreator(stateless, 4), new CachingCreator(recyclable, 4), new CachingCreator(plain, 4)
+			};
+			for (int i = 0; i < 100; i++) {
+				for (Creator creator : creators) {
+					creator.someOperation();
+				}
+			}
+			assertEquals(1, stateless.created.get());
+			assertEquals(1, recyclable.created.get());
+			assertEquals(100, plain.created.get(), "Products with unmanaged state are never reused.");
+		} finally {
+			System.setOut(out);
+		}
+	}
+
+	@Test
+	void testCreateProducts() {
+		Product[] products = new ConcreteCreatorA().createProducts(3);
+		assertEquals(3, products.length);
+		for (Product product : products) {
+			assertEquals("Using ConcreteProductA", product.use());
+		}
+		assertNotSame(products[0], products[1]);
+		assertEquals(0, new ConcreteCreatorA().createProducts(0).length);
+		assertThrows(IllegalArgumentException.class, () -> new ConcreteCreatorA().createProducts(-1));
+	}
+
+	@Test
+	void testCreateProductsParallel() {
+		CountingCreator creator = new CountingCreator(ConcreteProductB::new);
+		Product[] products = creator.createProductsParallel(100_000);
+
+		Set<Product> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Product product : products) {
+			assertNotNull(product);
+			distinct.add(product);
+		}
+		assertEquals(100_000, distinct.size(), "Every slot should hold its own product.");
+		assertEquals(100_000, creator.created.get());
+	}
+
+	@Test
+	void testBulkCreationUsesOverriddenRangePath() {
+		CountingCreator counting = new CountingCreator(ConcreteProductA::new);
+		CachingCreator creator = new CachingCreator(counting, 0);
+		Product[] products = creator.createProducts(10);
+		assertSame(products[0], products[9]);
+
+		products = creator.createProductsParallel(50_000);
+
+		assertEquals(1, counting.created.get(), "A stateless product should be created once for the whole batch.");
+		for (Product product : products) {
+			assertSame(products[0], product);
+		}
+	}
+
+	@Test
+	void testAsyncCreatorPrefetchesProducts() throws Exception {
+		CountingCreator counting = new CountingCreator(ConcreteProductA::new);
+		try (AsyncCreator creator = new AsyncCreator(counting, 4, 2)) {
+			awaitReady(creator, 4);
+			CompletableFuture<Product> future = creator.createProductAsync();
+			assertTrue(future.isDone(), "A buffered product should be handed out immediately.");
+			assertEquals("Using ConcreteProductA", future.get().use());
+
+			awaitReady(creator, 4);
+			assertEquals(5, counting.created.get(), "The buffer should be refilled, not overfilled.");
+		}
+	}
+
+	@Test
+	void testAsyncCreatorServesWaitingCallers() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountingCreator blocked = new CountingCreator(() -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new ConcreteProductB();
+		});
+		try (AsyncCreator creator = new AsyncCreator(blocked, 1, 1)) {
+			CompletableFuture<Product> first = creator.createProductAsync();
+			CompletableFuture<Product> second = creator.createProductAsync();
+			assertFalse(first.isDone(), "No product can be ready yet.");
+
+			release.countDown();
+			assertEquals("Using ConcreteProductB", first.get(5, TimeUnit.SECONDS).use());
+			assertEquals("Using ConcreteProductB", creator.createProduct().use());
+			assertNotSame(first.get(), second.get(5, TimeUnit.SECONDS), "Each caller should get its own product.");
+		}
+	}
+
+	@Test
+	void testAsyncCreatorFailures() {
+		Creator failing = new CountingCreator(() -> {
+			throw new IllegalStateException("Out of connections");
+		});
+		try (AsyncCreator creator = new AsyncCreator(failing, 2, 1)) {
+			IllegalStateException e = assertThrows(IllegalStateException.class, creator::createProduct);
+			assertEquals("Out of connections", e.getMessage());
+		}
+
+		CountDownLatch never = new CountDownLatch(1);
+		AsyncCreator creator = new AsyncCreator(new CountingCreator(() -> {
+			try {
+				never.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new ConcreteProductA();
+		}), 1, 1);
+		CompletableFuture<Product> pending = creator.createProductAsync();
+		creator.close();
+		assertTrue(pending.isCompletedExceptionally(), "Waiting callers should fail on close.");
+		assertThrows(IllegalStateException.class, creator::createProduct);
+	}
+
+	@Test
+	void testAsyncCreatorSurvivesErrors() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		Creator flaky = new CountingCreator(() -> {
+			if (calls.incrementAndGet() == 1) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new ExceptionInInitializerError("Static initialization failed");
+			}
+			return new ConcreteProductA();
+		});
+		try (AsyncCreator creator = new AsyncCreator(flaky, 1, 1)) {
+			CompletableFuture<Product> first = creator.createProductAsync(); // Waits for the failing build
+			release.countDown();
+			ExecutionException e = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(ExceptionInInitializerError.class, e.getCause(), "The error should reach the waiting caller.");
+			assertEquals("Using ConcreteProductA", creator.createProduct().use(),
+				"The worker slot should be available again after an error.");
+		}
+	}
+
+	@Test
+	void testAsyncCreatorKeepsProductsOfCancelledCallers() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		List<Product> built = new CopyOnWriteArrayList<>();
+		CountingCreator blocked = new CountingCreator(() -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			Product product = new ConcreteProductA();
+			built.add(product);
+			return product;
+		});
+		try (AsyncCreator creator = new AsyncCreator(blocked, 1, 1)) {
+			creator.createProductAsync().cancel(false); // Waits for the product being built, then gives up
+			release.countDown();
+			awaitReady(creator, 1);
+			assertSame(built.get(0), creator.createProduct(), "The product of a cancelled caller should be buffered.");
+		}
+	}
+
+	private static void awaitReady(AsyncCreator creator, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (creator.getReadyCount() < count) {
+			if (System.nanoTime() > deadline) {
+				fail("Buffer not filled in time.");
+			}
+			Thread.sleep(1);
+		}
+	}
 }
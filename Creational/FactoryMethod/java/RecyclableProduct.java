@@ -0,0 +1,16 @@
+package Creational.FactoryMethod;
+
+/**
+ * A product with state that can be cleared and the instance reused.
+ * 
+ * A {@link CachingCreator} keeps released instances of such products and
+ * hands them out again instead of creating new ones.
+ */
+public interface RecyclableProduct extends Product {
+	/**
+	 * Clears the product's state before it is reused.
+	 * 
+	 * After this call the product must behave like a newly created one.
+	 */
+	void reset();
+}
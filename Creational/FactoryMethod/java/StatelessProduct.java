@@ -0,0 +1,21 @@
+package Creational.FactoryMethod;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a product class whose instances hold no mutable state.
+ * 
+ * Any instance of such a product is interchangeable with any other, so a
+ * {@link CachingCreator} creates it once and hands the same instance to
+ * every caller. Only put this on products that are immutable or have no
+ * fields, since the shared instance is used by all threads at once.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface StatelessProduct {
+}
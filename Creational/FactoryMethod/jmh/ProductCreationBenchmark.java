@@ -0,0 +1,76 @@
+package Creational.FactoryMethod;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ways of creating a product chosen at runtime.
+ *
+ * {@code direct} is the baseline {@code new}. {@code registry} looks the
+ * key up in a {@link CreatorRegistry} and calls the bound constructor;
+ * {@code registrySupplier} calls a supplier fetched once. The reflection
+ * variants either resolve the class by name on every call, as code that
+ * picks creators from configuration often does, or reuse a cached
+ * {@link Constructor}. The registry should land within a few nanoseconds of
+ * {@code direct}, well ahead of both reflective paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProductCreationBenchmark {
+	private static final String CLASS_NAME = "Creational.FactoryMethod.ConcreteProductA";
+
+	private String key;
+	private CreatorRegistry registry;
+	private Supplier<Product> supplier;
+	private Constructor<? extends Product> constructor;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		key = "A";
+		registry = new CreatorRegistry();
+		registry.register(key, CLASS_NAME);
+		supplier = registry.getSupplier(key);
+		constructor = Class.forName(CLASS_NAME).asSubclass(Product.class).getDeclaredConstructor();
+	}
+
+	@Benchmark
+	public Product direct() {
+		return new ConcreteProductA();
+	}
+
+	@Benchmark
+	public Product registry() {
+		return registry.createProduct(key);
+	}
+
+	@Benchmark
+	public Product registrySupplier() {
+		return supplier.get();
+	}
+
+	@Benchmark
+	public Product reflectionByName() throws ReflectiveOperationException {
+		return (Product) Class.forName(CLASS_NAME).getDeclaredConstructor().newInstance();
+	}
+
+	@Benchmark
+	public Product reflectionCachedConstructor() throws ReflectiveOperationException {
+		return constructor.newInstance();
+	}
+}
@@ -0,0 +1,14 @@
+package Creational.ObjectPool;
+
+import java.time.Duration;
+
+/**
+ * Describes a borrowed object that was not returned before its deadline.
+ *
+ * @param object The abandoned object, which has been reclaimed by the pool.
+ * @param heldFor How long the object had been borrowed when it was reclaimed.
+ * @param borrowSite A throwable whose stack trace shows where the object was borrowed.
+ * @param <T> The type of objects managed by the pool.
+ */
+public record AbandonedObjectReport<T extends Reusable>(T object, Duration heldFor, Throwable borrowSite) {
+}
@@ -0,0 +1,86 @@
+package Creational.ObjectPool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records where a sampled fraction of borrows happened, to find objects that are never returned.
+ *
+ * Only sampled borrows are tracked: their start time and stack trace go into
+ * a concurrent map and are removed when the object is returned. The other
+ * borrows cost one random number. Code that leaks usually does so on every
+ * call, so even a low sample rate catches it quickly.
+ *
+ * @param <T> The type of objects managed by the pool.
+ */
+final class AbandonedObjectTracker<T extends Reusable> {
+
+	/**
+	 * A sampled borrow still in progress.
+	 */
+	private record Borrow(long startNanos, Throwable site) {
+	}
+
+	private final double sampleRate;         // Fraction of borrows that are tracked
+	private final long deadlineNanos;        // How long an object may be held before it is abandoned
+	private final Map<T, Borrow> borrowed;   // Sampled borrows not yet returned
+
+	/**
+	 * Constructs a tracker.
+	 *
+	 * @param sampleRate The fraction of borrows to track, between 0 and 1.
+	 * @param deadlineNanos How long an object may be held before it is considered abandoned.
+	 */
+	AbandonedObjectTracker(double sampleRate, long deadlineNanos) {
+		this.sampleRate = sampleRate;
+		this.deadlineNanos = deadlineNanos;
+		this.borrowed = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the time an object may be held.
+	 */
+	long getDeadlineNanos() {
+		return deadlineNanos;
+	}
+
+	/**
+	 * Starts tracking a borrow if it is sampled.
+	 */
+	void recordBorrow(T obj) {
+		if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			borrowed.put(obj, new Borrow(System.nanoTime(), new Throwable("Object borrowed here")));
+		}
+	}
+
+	/**
+	 * Stops tracking a returned object.
+	 */
+	void recordReturn(T obj) {
+		if (!borrowed.isEmpty()) {
+			borrowed.remove(obj);
+		}
+	}
+
+	/**
+	 * Removes and reports the tracked borrows held past the deadline.
+	 *
+	 * @return The abandoned objects, oldest borrow first.
+	 */
+	List<AbandonedObjectReport<T>> collectAbandoned() {
+		long now = System.nanoTime();
+		List<AbandonedObjectReport<T>> reports = new ArrayList<>();
+		for (Map.Entry<T, Borrow> entry : borrowed.entrySet()) {
+			long held = now - entry.getValue().startNanos();
+			if (held >= deadlineNanos && borrowed.remove(entry.getKey(), entry.getValue())) {
+				reports.add(new AbandonedObjectReport<>(entry.getKey(), Duration.ofNanos(held), entry.getValue().site()));
+			}
+		}
+		reports.sort((a, b) -> b.heldFor().compareTo(a.heldFor()));
+		return reports;
+	}
+}
@@ -0,0 +1,238 @@
+package Creational.ObjectPool;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of off-heap I/O buffers grouped in power-of-two size classes.
+ *
+ * Buffers are slices of large direct slabs, so they live outside the Java
+ * heap and never add to garbage collection work. Each size class carves new
+ * buffers from its current slab, allocating a new slab only when the current
+ * one is used up.
+ *
+ * Idle buffers are kept with the allocation-free bookkeeping of
+ * {@link SlotObjectPool}: every buffer is numbered within its size class when
+ * it is carved, idle buffers are linked by number in a lock-free stack, and a
+ * flag on each buffer rejects double returns without hashing. Once the pool
+ * has grown to the peak number of buffers in flight, borrowing and returning
+ * buffers allocates no new memory.
+ *
+ * Slabs are never released: memory stays at the peak demand of each size
+ * class for the lifetime of the pool.
+ */
+public final class ByteBufferPool {
+	private final int minBufferShift;     // log2 of the smallest size class
+	private final int maxBufferSize;      // Size of the largest size class
+	private final int slabSize;           // Bytes allocated at once for a size class
+	private final boolean zeroOnReset;    // Whether returned buffers are wiped
+	private final SizeClass[] classes;    // Buffers of each size class
+	private final ReentrantLock slabLock; // Guards carving and allocatedBytes
+	private long allocatedBytes;          // Total size of all slabs
+
+	/**
+	 * Buffers of one size class, with the idle ones in a lock-free stack.
+	 */
+	private static final class SizeClass {
+		private final AtomicLong head;               // Stack top: ABA tag in the high half, index + 1 in the low half (0 = empty)
+		private final AtomicInteger idle;            // Number of idle buffers
+		private volatile PooledByteBuffer[] buffers; // Buffers by index, replaced under slabLock when it grows
+		private int count;                           // Buffers carved so far, guarded by slabLock
+		private ByteBuffer slab;                     // Slab new buffers are carved from, guarded by slabLock
+
+		SizeClass() {
+			this.head = new AtomicLong();
+			this.idle = new AtomicInteger();
+			this.buffers = new PooledByteBuffer[16];
+		}
+
+		/**
+		 * Pushes an idle buffer onto the stack.
+		 *
+		 * The link is written before the CAS that publishes the buffer, so a
+		 * successful pop always reads the link that belongs to the head it saw.
+		 */
+		void push(PooledByteBuffer buffer) {
+			idle.incrementAndGet();
+			long h;
+			do {
+				h = head.get();
+				buffer.setNextIdle((int) h);
+			} while (!head.compareAndSet(h, nextTag(h) | (buffer.index() + 1)));
+		}
+
+		/**
+		 * Pops an idle buffer from the stack.
+		 *
+		 * @return The buffer, or null if no buffer is idle.
+		 */
+		PooledByteBuffer pop() {
+			long h;
+			PooledByteBuffer buffer;
+			do {
+				h = head.get();
+				int top = (int) h;
+				if (top == 0) {
+					return null;
+				}
+				buffer = buffers[top - 1];
+			} while (!head.compareAndSet(h, nextTag(h) | (buffer.nextIdle() & 0xFFFFFFFFL)));
+			idle.decrementAndGet();
+			return buffer;
+		}
+
+		/**
+		 * High half of a new head: the tag is bumped on every change so a recycled buffer cannot cause ABA.
+		 */
+		private static long nextTag(long h) {
+			return ((h >>> 32) + 1) << 32;
+		}
+	}
+
+	/**
+	 * Constructs a pool for buffers from minBufferSize to maxBufferSize bytes.
+	 *
+	 * @param minBufferSize The smallest size class, rounded up to a power of two.
+	 * @param maxBufferSize The largest size class, rounded up to a power of two.
+	 * @param slabSize The number of bytes allocated at once for a size class; large size classes use at least one buffer per slab.
+	 * @param zeroOnReset Whether returned buffers are overwritten with zeros, rather than just cleared.
+	 * @throws IllegalArgumentException if the sizes are not positive or minBufferSize exceeds maxBufferSize.
+	 */
+	public ByteBufferPool(int minBufferSize, int maxBufferSize, int slabSize, boolean zeroOnReset) {
+		if (minBufferSize <= 0 || slabSize <= 0 || minBufferSize > maxBufferSize || maxBufferSize > (1 << 30)) {
+			throw new IllegalArgumentException("Buffer sizes must satisfy 0 < minBufferSize <= maxBufferSize <= 2^30 and slabSize > 0.");
+		}
+		this.minBufferShift = shiftFor(minBufferSize);
+		int maxBufferShift = shiftFor(maxBufferSize);
+		this.maxBufferSize = 1 << maxBufferShift;
+		this.slabSize = slabSize;
+		this.zeroOnReset = zeroOnReset;
+		this.classes = new SizeClass[maxBufferShift - minBufferShift + 1];
+		for (int i = 0; i < classes.length; i++) {
+			classes[i] = new SizeClass();
+		}
+		this.slabLock = new ReentrantLock();
+	}
+
+	/**
+	 * Borrows a buffer of at least the requested capacity.
+	 *
+	 * @param capacity The number of bytes needed.
+	 * @return A cleared buffer from the smallest size class that fits the request.
+	 * @throws IllegalArgumentException if the capacity is negative or larger than the largest size class.
+	 */
+	public PooledByteBuffer borrowBuffer(int capacity) {
+		if (capacity < 0 || capacity > maxBufferSize) {
+			throw new IllegalArgumentException("Buffer capacity must be between 0 and " + maxBufferSize + ".");
+		}
+		int sizeClass = sizeClassOf(capacity);
+		PooledByteBuffer buffer = classes[sizeClass].pop();
+		if (buffer == null) {
+			return carve(sizeClass);
+		}
+		buffer.markBorrowed();
+		return buffer;
+	}
+
+	/**
+	 * Returns a buffer to its size class.
+	 *
+	 * The buffer is reset before other borrowers can get it. If the reset
+	 * fails, the caller keeps the buffer.
+	 *
+	 * @param buffer The buffer to return, which must have been borrowed from this pool.
+	 * @throws IllegalArgumentException if the buffer is null, from another pool, or already in the pool.
+	 */
+	public void returnBuffer(PooledByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("Cannot return a null buffer to the pool.");
+		}
+		if (buffer.owner() != this) {
+			throw new IllegalArgumentException("Buffer was not borrowed from this pool.");
+		}
+		if (!buffer.markReturned()) {
+			throw new IllegalArgumentException("Buffer is already in the pool.");
+		}
+		try {
+			buffer.reset();
+		} catch (RuntimeException e) {
+			buffer.markBorrowed(); // The caller still owns the buffer
+			throw e;
+		}
+		classes[buffer.sizeClass()].push(buffer);
+	}
+
+	/**
+	 * Gets the number of off-heap bytes held by the pool.
+	 *
+	 * @return The total size of all slabs allocated so far.
+	 */
+	public long getAllocatedBytes() {
+		slabLock.lock();
+		try {
+			return allocatedBytes;
+		} finally {
+			slabLock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of idle buffers in a size class.
+	 *
+	 * @param capacity Any capacity that maps to the size class.
+	 * @return The number of buffers of that size class currently in the pool.
+	 */
+	public int getSize(int capacity) {
+		return classes[sizeClassOf(capacity)].idle.get();
+	}
+
+	/**
+	 * Index of the smallest size class holding at least capacity bytes.
+	 */
+	private int sizeClassOf(int capacity) {
+		return Math.max(0, shiftFor(Math.max(1, capacity)) - minBufferShift);
+	}
+
+	/**
+	 * Exponent of the smallest power of two greater than or equal to size.
+	 */
+	private static int shiftFor(int size) {
+		return 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	/**
+	 * Cuts a new buffer of a size class from its slab, starting a new slab when needed.
+	 *
+	 * @return The buffer, already marked borrowed.
+	 */
+	private PooledByteBuffer carve(int sizeClass) {
+		SizeClass target = classes[sizeClass];
+		int bufferSize = 1 << (minBufferShift + sizeClass);
+		slabLock.lock();
+		try {
+			ByteBuffer slab = target.slab;
+			if (slab == null || slab.remaining() < bufferSize) {
+				int buffersPerSlab = Math.max(1, slabSize / bufferSize);
+				slab = ByteBuffer.allocateDirect(buffersPerSlab * bufferSize);
+				target.slab = slab;
+				allocatedBytes += slab.capacity();
+			}
+			ByteBuffer slice = slab.slice(slab.position(), bufferSize);
+			slab.position(slab.position() + bufferSize);
+
+			PooledByteBuffer buffer = new PooledByteBuffer(this, slice, sizeClass, target.count, zeroOnReset);
+			PooledByteBuffer[] buffers = target.buffers;
+			if (target.count == buffers.length) {
+				buffers = Arrays.copyOf(buffers, buffers.length * 2);
+			}
+			buffers[target.count++] = buffer;
+			target.buffers = buffers; // Publishes the new buffer to pop()
+			return buffer;
+		} finally {
+			slabLock.unlock();
+		}
+	}
+}
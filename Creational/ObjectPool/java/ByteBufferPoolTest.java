@@ -0,0 +1,192 @@
+package Creational.ObjectPool;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the ByteBufferPool class.
+ *
+ * Validates size class selection, buffer reuse, resetting, slab allocation
+ * and allocation-free concurrent recycling.
+ */
+public class ByteBufferPoolTest {
+
+	/**
+	 * Test that requests are rounded up to the next size class.
+	 */
+	@Test
+	public void testSizeClassSelection() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		assertEquals(64, pool.borrowBuffer(1).capacity(), "Small requests should use the smallest class.");
+		assertEquals(128, pool.borrowBuffer(100).capacity(), "Requests should round up to a power of two.");
+		assertEquals(4096, pool.borrowBuffer(4096).capacity(), "Exact powers of two should not round up.");
+		assertTrue(pool.borrowBuffer(1).buffer().isDirect(), "Buffers should be off-heap.");
+		assertThrows(IllegalArgumentException.class, () -> pool.borrowBuffer(4097),
+			"Requests beyond the largest class should be rejected.");
+	}
+
+	/**
+	 * Test that a returned buffer is cleared and reused.
+	 */
+	@Test
+	public void testBufferReuse() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		PooledByteBuffer buffer = pool.borrowBuffer(256);
+		buffer.buffer().putInt(42);
+		pool.returnBuffer(buffer);
+		assertThrows(IllegalArgumentException.class, () -> pool.returnBuffer(buffer),
+			"Returning the same buffer twice should throw an exception.");
+
+		PooledByteBuffer reused = pool.borrowBuffer(200);
+		assertSame(buffer, reused, "The returned buffer should be reused.");
+		assertEquals(0, reused.buffer().position(), "A reused buffer should be cleared.");
+		assertEquals(42, reused.buffer().getInt(0), "Clearing should keep the contents.");
+	}
+
+	/**
+	 * Test that a byte order set by a borrower does not leak to the next one.
+	 */
+	@Test
+	public void testResetRestoresByteOrder() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		PooledByteBuffer buffer = pool.borrowBuffer(64);
+		buffer.buffer().order(ByteOrder.LITTLE_ENDIAN).putInt(1);
+		pool.returnBuffer(buffer);
+
+		PooledByteBuffer reused = pool.borrowBuffer(64);
+		assertSame(buffer, reused, "The returned buffer should be reused.");
+		assertEquals(ByteOrder.BIG_ENDIAN, reused.buffer().order(), "A reused buffer should be big-endian again.");
+	}
+
+	/**
+	 * Test that buffers borrowed from another pool are rejected.
+	 */
+	@Test
+	public void testForeignBufferRejected() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		ByteBufferPool other = new ByteBufferPool(16, 1024 * 1024, 1024 * 1024, false);
+		PooledByteBuffer large = other.borrowBuffer(1024 * 1024);
+		PooledByteBuffer small = other.borrowBuffer(64);
+		assertThrows(IllegalArgumentException.class, () -> pool.returnBuffer(large),
+			"A buffer beyond this pool's size classes should be rejected.");
+		assertThrows(IllegalArgumentException.class, () -> pool.returnBuffer(small),
+			"A buffer from another pool should be rejected.");
+		assertEquals(0, pool.getSize(64), "No foreign buffer should enter the pool.");
+	}
+
+	/**
+	 * Test that buffers are wiped on return when configured to.
+	 */
+	@Test
+	public void testZeroOnReset() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, true);
+		PooledByteBuffer buffer = pool.borrowBuffer(4096);
+		for (int i = 0; i < buffer.capacity(); i++) {
+			buffer.buffer().put((byte) 7);
+		}
+		pool.returnBuffer(buffer);
+
+		PooledByteBuffer reused = pool.borrowBuffer(4096);
+		for (int i = 0; i < reused.capacity(); i++) {
+			assertEquals(0, reused.buffer().get(i), "Byte " + i + " should be zeroed.");
+		}
+	}
+
+	/**
+	 * Test that slabs are shared by buffers and that steady-state churn allocates nothing.
+	 */
+	@Test
+	public void testSteadyStateDoesNotAllocateSlabs() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		List<PooledByteBuffer> buffers = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			buffers.add(pool.borrowBuffer(1024));
+		}
+		assertEquals(64 * 1024, pool.getAllocatedBytes(), "Sixteen 1 KiB buffers should fit in one slab.");
+
+		for (int round = 0; round < 100; round++) {
+			for (PooledByteBuffer buffer : buffers) {
+				pool.returnBuffer(buffer);
+			}
+			buffers.clear();
+			for (int i = 0; i < 16; i++) {
+				buffers.add(pool.borrowBuffer(1000));
+			}
+		}
+		assertEquals(64 * 1024, pool.getAllocatedBytes(), "Recycling buffers should not allocate new slabs.");
+	}
+
+	/**
+	 * Test that recycling buffers allocates no heap memory once the pool has grown.
+	 */
+	@Test
+	public void testSteadyStateDoesNotAllocateOnHeap() {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		PooledByteBuffer[] buffers = new PooledByteBuffer[16];
+		int rounds = 10_000;
+		recycle(pool, buffers, rounds); // Grows the pool and warms up the code
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		recycle(pool, buffers, rounds);
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+		assertTrue(allocated < (long) rounds * buffers.length,
+			"Recycling buffers should not allocate, but " + allocated + " bytes were allocated.");
+	}
+
+	/**
+	 * Test concurrent borrowing and returning.
+	 *
+	 * Each buffer must be held by at most one thread at a time.
+	 */
+	@Test
+	public void testConcurrentBorrowAndReturn() throws InterruptedException {
+		ByteBufferPool pool = new ByteBufferPool(64, 4096, 64 * 1024, false);
+		AtomicInteger failures = new AtomicInteger();
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			long worker = t;
+			workers.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 20_000; i++) {
+					PooledByteBuffer buffer = pool.borrowBuffer(64);
+					long mark = worker << 32 | i;
+					buffer.buffer().putLong(0, mark);
+					Thread.yield();
+					if (buffer.buffer().getLong(0) != mark) {
+						failures.incrementAndGet();
+					}
+					pool.returnBuffer(buffer);
+				}
+			}));
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		assertEquals(0, failures.get(), "No buffer should be handed to two borrowers at once.");
+		int idle = pool.getSize(64);
+		assertTrue(idle >= 1 && idle <= 8, "No more buffers than borrowers should exist, found " + idle + ".");
+	}
+
+	/**
+	 * Borrows and returns a batch of buffers repeatedly.
+	 */
+	private static void recycle(ByteBufferPool pool, PooledByteBuffer[] buffers, int rounds) {
+		for (int round = 0; round < rounds; round++) {
+			for (int i = 0; i < buffers.length; i++) {
+				buffers[i] = pool.borrowBuffer(1000);
+			}
+			for (PooledByteBuffer buffer : buffers) {
+				pool.returnBuffer(buffer);
+			}
+		}
+	}
+}
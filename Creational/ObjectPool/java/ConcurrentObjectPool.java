@@ -0,0 +1,198 @@
+package Creational.ObjectPool;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free Object Pool for highly concurrent borrowers.
+ *
+ * The ConcurrentObjectPool offers the same contract as {@link ObjectPool}
+ * without requiring any external locking. Idle objects live either in a small
+ * cache owned by a stripe of threads or in a lock-free shared queue. A thread
+ * first looks in its own stripe, then in the shared queue, and finally steals
+ * from the other stripes before reporting that the pool is empty. Returned
+ * objects go back to the returning thread's stripe when there is room, so a
+ * thread that borrows and returns in a loop rarely touches shared state.
+ *
+ * Stripes are selected from the thread id rather than through a
+ * {@link ThreadLocal}, so thousands of virtual threads share a bounded number
+ * of caches instead of each allocating their own.
+ *
+ * Unlike {@link ObjectPool}, borrowing order is not FIFO: an object returned
+ * to a stripe cache is handed out again before older objects in the shared
+ * queue.
+ *
+ * @param <T> The type of objects managed by the pool, which must implement the {@link Reusable} interface.
+ */
+public class ConcurrentObjectPool<T extends Reusable> {
+	private static final int CACHE_SIZE = 4;    // Objects cached per stripe
+	private static final int CACHE_STRIDE = 16; // Distance between stripes, keeps them on separate cache lines
+
+	private final ConcurrentLinkedQueue<T> shared;           // Lock-free queue shared by all threads
+	private final AtomicReferenceArray<T> caches;            // Striped per-thread caches
+	private final int stripeMask;                            // Number of stripes minus one (power of two)
+	private final ConcurrentHashMap<T, AtomicBoolean> idle;  // Per-object flag: true while the object is in the pool
+	private final AtomicInteger size;                        // Number of idle objects
+
+	/**
+	 * Constructs an empty ConcurrentObjectPool sized for the available processors.
+	 */
+	public ConcurrentObjectPool() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs an empty ConcurrentObjectPool with caches for the given level of parallelism.
+	 *
+	 * @param parallelism The expected number of threads using the pool simultaneously.
+	 * @throws IllegalArgumentException if parallelism is not positive.
+	 */
+	public ConcurrentObjectPool(int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Parallelism must be positive.");
+		}
+		int stripes = Integer.highestOneBit(parallelism * 2 - 1) << 1;
+		this.shared = new ConcurrentLinkedQueue<>();
+		this.caches = new AtomicReferenceArray<>(stripes * CACHE_STRIDE);
+		this.stripeMask = stripes - 1;
+		this.idle = new ConcurrentHashMap<>();
+		this.size = new AtomicInteger();
+	}
+
+	/**
+	 * Adds a reusable object to the pool.
+	 *
+	 * @param obj The reusable object to be added to the pool.
+	 * @throws IllegalArgumentException if the object is null or already in the pool.
+	 */
+	public void addObject(T obj) {
+		if (obj == null) {
+			throw new IllegalArgumentException("Cannot add a null object to the pool.");
+		}
+		markIdle(obj);
+		size.incrementAndGet();
+		shared.offer(obj);
+	}
+
+	/**
+	 * Borrows a reusable object from the pool.
+	 *
+	 * @return A reusable object from the pool.
+	 * @throws IllegalStateException if the pool is empty.
+	 */
+	public T borrowObject() {
+		int base = stripeBase();
+		T obj = pollStripe(base);
+		if (obj == null) {
+			obj = shared.poll();
+		}
+		if (obj == null) {
+			obj = steal(base);
+		}
+		if (obj == null) {
+			throw new IllegalStateException("No available objects in the pool.");
+		}
+		size.decrementAndGet();
+		idle.get(obj).set(false);
+		return obj;
+	}
+
+	/**
+	 * Returns a reusable object to the pool.
+	 *
+	 * The returned object is reset to its initial state before being made
+	 * available to other borrowers.
+	 *
+	 * @param obj The reusable object to return to the pool.
+	 * @throws IllegalArgumentException if the object is null or already in the pool.
+	 * @throws RuntimeException if resetting the object fails; the object is then not returned and may be returned again.
+	 */
+	public void returnObject(T obj) {
+		if (obj == null) {
+			throw new IllegalArgumentException("Cannot return a null object to the pool.");
+		}
+		AtomicBoolean flag = idle.get(obj);
+		if (flag != null && flag.get()) {
+			throw new IllegalArgumentException("Object is already in the pool."); // Before resetting an object in use by another borrower
+		}
+		obj.reset(); // Before marking it idle, so a failed reset leaves the object borrowed
+		markIdle(obj);
+		size.incrementAndGet();
+		if (!offerStripe(stripeBase(), obj)) {
+			shared.offer(obj);
+		}
+	}
+
+	/**
+	 * Gets the current size of the pool.
+	 *
+	 * The value is a snapshot and may be stale as soon as it is returned when
+	 * other threads are borrowing or returning objects.
+	 *
+	 * @return The number of reusable objects currently in the pool.
+	 */
+	public int getSize() {
+		return size.get();
+	}
+
+	/**
+	 * Atomically flips an object's flag to idle, rejecting objects already in the pool.
+	 */
+	private void markIdle(T obj) {
+		AtomicBoolean flag = idle.get(obj);
+		if (flag == null) {
+			flag = idle.putIfAbsent(obj, new AtomicBoolean(true));
+			if (flag == null) {
+				return;
+			}
+		}
+		if (!flag.compareAndSet(false, true)) {
+			throw new IllegalArgumentException("Object is already in the pool.");
+		}
+	}
+
+	/**
+	 * Index of the first cache slot of the calling thread's stripe.
+	 */
+	private int stripeBase() {
+		long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+		return ((int) (h >>> 32) & stripeMask) * CACHE_STRIDE;
+	}
+
+	private T pollStripe(int base) {
+		for (int i = base; i < base + CACHE_SIZE; i++) {
+			T obj = caches.get(i);
+			if (obj != null && caches.compareAndSet(i, obj, null)) {
+				return obj;
+			}
+		}
+		return null;
+	}
+
+	private boolean offerStripe(int base, T obj) {
+		for (int i = base; i < base + CACHE_SIZE; i++) {
+			if (caches.get(i) == null && caches.compareAndSet(i, null, obj)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Takes an object cached by another stripe, used only once the shared queue is empty.
+	 */
+	private T steal(int ownBase) {
+		for (int base = 0; base < caches.length(); base += CACHE_STRIDE) {
+			if (base != ownBase) {
+				T obj = pollStripe(base);
+				if (obj != null) {
+					return obj;
+				}
+			}
+		}
+		return null;
+	}
+}
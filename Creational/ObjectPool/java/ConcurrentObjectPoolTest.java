@@ -0,0 +1,198 @@
+package Creational.ObjectPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the ConcurrentObjectPool class.
+ *
+ * Validates that the lock-free pool keeps the {@link ObjectPool} contract
+ * and never hands the same object to two borrowers at once.
+ */
+public class ConcurrentObjectPoolTest {
+
+	/**
+	 * Silent reusable object that detects overlapping borrowers.
+	 */
+	private static class CountingReusable implements Reusable {
+		private final AtomicBoolean inUse = new AtomicBoolean(false);
+		private final AtomicInteger resets = new AtomicInteger();
+
+		@Override
+		public void use() {
+			if (!inUse.compareAndSet(false, true)) {
+				throw new IllegalStateException("Object handed to two borrowers.");
+			}
+		}
+
+		@Override
+		public void reset() {
+			inUse.set(false);
+			resets.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Test borrowing and returning a single object.
+	 */
+	@Test
+	public void testSingleBorrowAndReturn() {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>();
+		CountingReusable reusable = new CountingReusable();
+		pool.addObject(reusable);
+
+		CountingReusable borrowed = pool.borrowObject();
+		assertSame(reusable, borrowed, "The added object should be borrowed.");
+		assertEquals(0, pool.getSize(), "The pool should be empty while the object is borrowed.");
+
+		pool.returnObject(borrowed);
+		assertEquals(1, borrowed.resets.get(), "The object should be reset on return.");
+		assertSame(reusable, pool.borrowObject(), "The same object instance should be reused.");
+	}
+
+	/**
+	 * Test behavior when borrowing from an empty pool.
+	 */
+	@Test
+	public void testBorrowFromEmptyPool() {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>();
+
+		assertThrows(IllegalStateException.class, pool::borrowObject,
+			"Borrowing from an empty pool should throw an exception.");
+	}
+
+	/**
+	 * Test that null objects are rejected.
+	 */
+	@Test
+	public void testNullObjects() {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>();
+
+		assertThrows(IllegalArgumentException.class, () -> pool.addObject(null));
+		assertThrows(IllegalArgumentException.class, () -> pool.returnObject(null));
+	}
+
+	/**
+	 * Test duplicate add and return handling.
+	 *
+	 * Ensures that an object already in the pool cannot be added or returned again.
+	 */
+	@Test
+	public void testDuplicateReturn() {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>();
+		CountingReusable obj = new CountingReusable();
+		pool.addObject(obj);
+		assertThrows(IllegalArgumentException.class, () -> pool.addObject(obj),
+			"Adding the same object twice should throw an exception.");
+
+		CountingReusable borrowed = pool.borrowObject();
+		pool.returnObject(borrowed);
+		assertThrows(IllegalArgumentException.class, () -> pool.returnObject(borrowed),
+			"Returning the same object twice should throw an exception.");
+		assertEquals(1, pool.getSize(), "Pool size should not change due to duplicate return.");
+	}
+
+	/**
+	 * Test that a failed reset leaves the object borrowed.
+	 *
+	 * Ensures that an object whose reset threw can still be returned later.
+	 */
+	@Test
+	public void testReturnAfterFailedReset() {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>();
+		AtomicBoolean failReset = new AtomicBoolean(true);
+		CountingReusable obj = new CountingReusable() {
+			@Override
+			public void reset() {
+				if (failReset.get()) {
+					throw new IllegalStateException("Reset failed.");
+				}
+				super.reset();
+			}
+		};
+		assertThrows(IllegalStateException.class, () -> pool.returnObject(obj));
+		assertEquals(0, pool.getSize(), "An object that failed to reset should not be pooled.");
+
+		failReset.set(false);
+		pool.returnObject(obj);
+		assertEquals(1, pool.getSize(), "The object should be returnable once its reset succeeds.");
+		assertSame(obj, pool.borrowObject());
+	}
+
+	/**
+	 * Test that objects cached by one thread can be borrowed by another.
+	 */
+	@Test
+	public void testObjectsReturnedByOtherThreadsAreVisible() throws InterruptedException {
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>(1);
+		CountingReusable obj = new CountingReusable();
+		pool.addObject(obj);
+		CountingReusable borrowed = pool.borrowObject();
+
+		Thread returner = new Thread(() -> pool.returnObject(borrowed));
+		returner.start();
+		returner.join();
+
+		assertSame(obj, pool.borrowObject(), "An object cached by another thread should be stolen.");
+	}
+
+	/**
+	 * Test concurrent borrowing and returning.
+	 *
+	 * Several threads borrow and return objects in a loop; each object must be
+	 * held by at most one thread at a time and none may be lost.
+	 */
+	@Test
+	public void testConcurrentBorrowAndReturn() throws InterruptedException {
+		int threads = 8;
+		int objects = 4;
+		int iterations = 20_000;
+		ConcurrentObjectPool<CountingReusable> pool = new ConcurrentObjectPool<>(threads);
+		for (int i = 0; i < objects; i++) {
+			pool.addObject(new CountingReusable());
+		}
+
+		AtomicInteger failures = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < iterations; i++) {
+					CountingReusable obj;
+					try {
+						obj = pool.borrowObject();
+					} catch (IllegalStateException empty) {
+						continue; // All objects are borrowed right now
+					}
+					try {
+						obj.use();
+					} catch (IllegalStateException overlap) {
+						failures.incrementAndGet();
+					}
+					pool.returnObject(obj);
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		assertEquals(0, failures.get(), "No object should be handed to two borrowers at once.");
+		assertEquals(objects, pool.getSize(), "All objects should be back in the pool.");
+	}
+}
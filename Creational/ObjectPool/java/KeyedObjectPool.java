@@ -0,0 +1,286 @@
+package Creational.ObjectPool;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Object Pool partitioned by key, with per-key and global limits.
+ *
+ * Each key (a tenant, a connection target, ...) gets its own elastic
+ * {@link ObjectPool}, created the first time the key is used and removed
+ * once it holds no object and no borrower uses it, so keys that come and go
+ * do not accumulate. Objects for a
+ * key are created by a shared factory that receives the key. Every sub-pool
+ * is limited to a per-key maximum, and all sub-pools together to a global
+ * maximum. When the global maximum is reached and a key needs a new object,
+ * an idle object of the key holding the most idle objects is evicted to make
+ * room.
+ *
+ * @param <K> The type of keys.
+ * @param <T> The type of objects managed by the pool, which must implement the {@link Reusable} interface.
+ */
+public class KeyedObjectPool<K, T extends Reusable> implements AutoCloseable {
+	private final Function<? super K, ? extends T> factory; // Creates objects for a key
+	private final int maxPerKey;                           // Objects allowed per key
+	private final int maxTotal;                            // Objects allowed over all keys
+	private final Map<K, SubPool<T>> pools;                // Sub-pool of each key in use, created lazily
+	private final Map<T, K> borrowed;                      // Borrowed objects, with the key they were borrowed for
+	private final AtomicInteger totalCount;                // Objects managed over all keys
+
+	/**
+	 * The sub-pool of a key, with the number of borrow calls using it.
+	 *
+	 * The user count is only read and written inside compute calls on the
+	 * key's map entry, which makes removing an empty sub-pool safe against
+	 * concurrent borrowers.
+	 */
+	private static final class SubPool<T extends Reusable> {
+		final ObjectPool<T> pool;
+		int users; // Borrow calls in progress, including waiting ones
+
+		SubPool(ObjectPool<T> pool) {
+			this.pool = pool;
+		}
+	}
+
+	/**
+	 * Constructs an empty KeyedObjectPool.
+	 *
+	 * @param factory Creates a new object for the given key.
+	 * @param maxPerKey The maximum number of objects per key.
+	 * @param maxTotal The maximum number of objects over all keys.
+	 * @throws IllegalArgumentException if the factory is null or the limits are not positive.
+	 */
+	public KeyedObjectPool(Function<? super K, ? extends T> factory, int maxPerKey, int maxTotal) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Object factory cannot be null.");
+		}
+		if (maxPerKey <= 0 || maxTotal <= 0) {
+			throw new IllegalArgumentException("Pool limits must be positive.");
+		}
+		this.factory = factory;
+		this.maxPerKey = maxPerKey;
+		this.maxTotal = maxTotal;
+		this.pools = new ConcurrentHashMap<>();
+		this.borrowed = new ConcurrentHashMap<>();
+		this.totalCount = new AtomicInteger();
+	}
+
+	/**
+	 * Borrows a reusable object for a key.
+	 *
+	 * @param key The key to borrow an object for.
+	 * @return An idle object of the key, or a new one if the limits allow it.
+	 * @throws IllegalArgumentException if the key is null.
+	 * @throws IllegalStateException if the key's limit is reached, or the global limit is reached and no other key has an idle object.
+	 */
+	public T borrowObject(K key) {
+		SubPool<T> sub = enter(key);
+		try {
+			T obj = sub.pool.borrowObject();
+			borrowed.put(obj, key);
+			return obj;
+		} finally {
+			leave(key);
+		}
+	}
+
+	/**
+	 * Borrows a reusable object for a key, waiting for one of the key's objects to be returned if necessary.
+	 *
+	 * @param key The key to borrow an object for.
+	 * @param timeout The maximum time to wait for an object.
+	 * @return An object of the key.
+	 * @throws IllegalArgumentException if the key is null.
+	 * @throws IllegalStateException if no object became available before the timeout, or the global limit is reached and no other key has an idle object.
+	 * @throws InterruptedException if the calling thread is interrupted while waiting.
+	 */
+	public T borrowObject(K key, Duration timeout) throws InterruptedException {
+		SubPool<T> sub = enter(key);
+		try {
+			T obj = sub.pool.borrowObject(timeout);
+			borrowed.put(obj, key);
+			return obj;
+		} finally {
+			leave(key);
+		}
+	}
+
+	/**
+	 * Returns a reusable object to the pool of its key.
+	 *
+	 * An object whose reset fails is dropped by its key's pool and no longer
+	 * counts against the global limit.
+	 *
+	 * @param key The key the object was borrowed for.
+	 * @param obj The reusable object to return.
+	 * @throws IllegalArgumentException if the key has no sub-pool, or the object is null or not borrowed for the key.
+	 */
+	public void returnObject(K key, T obj) {
+		SubPool<T> sub = key == null ? null : pools.get(key);
+		if (sub == null) {
+			throw new IllegalArgumentException("Unknown pool key: " + key);
+		}
+		if (obj == null) {
+			throw new IllegalArgumentException("Cannot return a null object to the pool.");
+		}
+		if (!borrowed.remove(obj, key)) {
+			throw new IllegalArgumentException("Object was not borrowed for key: " + key);
+		}
+		try {
+			sub.pool.returnObject(obj);
+		} catch (RuntimeException resetFailed) {
+			totalCount.decrementAndGet(); // The sub-pool dropped the object
+			removeIfEmpty(key);
+			throw resetFailed;
+		}
+	}
+
+	/**
+	 * Gets the number of idle objects of a key.
+	 *
+	 * @param key The key.
+	 * @return The number of idle objects of the key, 0 if the key has no sub-pool.
+	 * @throws IllegalArgumentException if the key is null.
+	 */
+	public int getSize(K key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Pool key cannot be null.");
+		}
+		SubPool<T> sub = pools.get(key);
+		return sub == null ? 0 : sub.pool.getSize();
+	}
+
+	/**
+	 * Gets the number of keys that currently have a sub-pool.
+	 *
+	 * @return The number of keys holding objects or being borrowed for.
+	 */
+	public int getKeyCount() {
+		return pools.size();
+	}
+
+	/**
+	 * Gets the number of objects managed over all keys.
+	 *
+	 * @return The number of idle and borrowed objects of all keys.
+	 */
+	public int getTotalCount() {
+		return totalCount.get();
+	}
+
+	/**
+	 * Closes the sub-pools of all keys.
+	 */
+	@Override
+	public void close() {
+		for (SubPool<T> sub : pools.values()) {
+			sub.pool.close();
+		}
+	}
+
+	/**
+	 * Gets the sub-pool of a key, creating it if needed, and registers a borrow call using it.
+	 */
+	private SubPool<T> enter(K key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Pool key cannot be null.");
+		}
+		return pools.compute(key, (k, sub) -> {
+			if (sub == null) {
+				sub = new SubPool<>(new ObjectPool<T>(() -> create(k), 0, maxPerKey));
+			}
+			sub.users++;
+			return sub;
+		});
+	}
+
+	/**
+	 * Ends a borrow call registered by {@link #enter(Object)}, removing the sub-pool if it is now unused.
+	 */
+	private void leave(K key) {
+		pools.computeIfPresent(key, (k, sub) -> {
+			sub.users--;
+			return isUnused(sub) ? null : sub;
+		});
+	}
+
+	/**
+	 * Removes the sub-pool of a key if it holds no object and no borrow call uses it.
+	 */
+	private void removeIfEmpty(K key) {
+		pools.computeIfPresent(key, (k, sub) -> isUnused(sub) ? null : sub);
+	}
+
+	/**
+	 * Whether a sub-pool can be removed. Only called inside a compute call on its entry.
+	 */
+	private static boolean isUnused(SubPool<?> sub) {
+		return sub.users == 0 && sub.pool.getTotalCount() == 0;
+	}
+
+	/**
+	 * Creates an object for a key once room is reserved under the global limit.
+	 */
+	private T create(K key) {
+		reserveGlobal(key);
+		T obj = null;
+		try {
+			obj = factory.apply(key);
+		} finally {
+			if (obj == null) {
+				totalCount.decrementAndGet(); // The sub-pool reports the failure
+			}
+		}
+		return obj;
+	}
+
+	/**
+	 * Claims room for one more object, evicting an idle object of another key if the global limit is reached.
+	 */
+	private void reserveGlobal(K key) {
+		while (true) {
+			int count = totalCount.get();
+			if (count < maxTotal) {
+				if (totalCount.compareAndSet(count, count + 1)) {
+					return;
+				}
+			} else if (!evictIdleObject(key)) {
+				throw new IllegalStateException("Global pool capacity reached.");
+			}
+		}
+	}
+
+	/**
+	 * Evicts one idle object from the key with the most idle objects, other than the requesting key.
+	 *
+	 * @return false if no other key has an idle object.
+	 */
+	private boolean evictIdleObject(K requester) {
+		while (true) {
+			K victim = null;
+			ObjectPool<T> victimPool = null;
+			int victimSize = 0;
+			for (Map.Entry<K, SubPool<T>> entry : pools.entrySet()) {
+				int size = entry.getValue().pool.getSize();
+				if (size > victimSize && !entry.getKey().equals(requester)) {
+					victim = entry.getKey();
+					victimPool = entry.getValue().pool;
+					victimSize = size;
+				}
+			}
+			if (victim == null) {
+				return false;
+			}
+			if (victimPool.evictIdleObject() != null) {
+				totalCount.decrementAndGet();
+				removeIfEmpty(victim); // The victim may be a retired key
+				return true;
+			}
+			// The victim's idle objects were borrowed meanwhile, look again
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package Creational.ObjectPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the KeyedObjectPool class.
+ *
+ * Validates per-key isolation, per-key and global limits, cross-key
+ * eviction and the removal of unused sub-pools.
+ */
+public class KeyedObjectPoolTest {
+
+	/**
+	 * Test that objects are created per key and reused within their key only.
+	 */
+	@Test
+	public void testObjectsArePerKey() {
+		AtomicInteger created = new AtomicInteger();
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(
+				key -> new ConcreteReusable(key + created.incrementAndGet()), 2, 10)) {
+			ConcreteReusable a = pool.borrowObject("tenantA");
+			pool.returnObject("tenantA", a);
+
+			assertSame(a, pool.borrowObject("tenantA"), "A key should reuse its own object.");
+			assertNotSame(a, pool.borrowObject("tenantB"), "Another key should get its own object.");
+			assertEquals(2, created.get(), "One object should be created per key.");
+			assertEquals(2, pool.getTotalCount(), "The global count should cover all keys.");
+		}
+	}
+
+	/**
+	 * Test the per-key limit.
+	 */
+	@Test
+	public void testPerKeyLimit() {
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(
+				key -> new ConcreteReusable(key), 1, 10)) {
+			pool.borrowObject("tenantA");
+
+			assertThrows(IllegalStateException.class, () -> pool.borrowObject("tenantA"),
+				"A key should not exceed its limit.");
+			assertDoesNotThrow(() -> pool.borrowObject("tenantB"), "Other keys should be unaffected.");
+		}
+	}
+
+	/**
+	 * Test cross-key eviction at the global limit.
+	 *
+	 * When the global limit is reached, an idle object of another key must be
+	 * evicted to make room; when no object is idle, borrowing must fail.
+	 */
+	@Test
+	public void testGlobalLimitEvictsIdleObjectsOfOtherKeys() {
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(
+				key -> new ConcreteReusable(key), 3, 3)) {
+			List<ConcreteReusable> borrowed = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				borrowed.add(pool.borrowObject("tenantA"));
+			}
+			assertThrows(IllegalStateException.class, () -> pool.borrowObject("tenantB"),
+				"Nothing can be evicted while every object is borrowed.");
+
+			pool.returnObject("tenantA", borrowed.get(0));
+			pool.returnObject("tenantA", borrowed.get(1));
+			assertNotNull(pool.borrowObject("tenantB"), "An idle object of tenantA should make room.");
+			assertEquals(1, pool.getSize("tenantA"), "One idle object of tenantA should be evicted.");
+			assertEquals(3, pool.getTotalCount(), "The global limit should hold.");
+		}
+	}
+
+	/**
+	 * Test invalid keys and arguments.
+	 */
+	@Test
+	public void testInvalidArguments() {
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(
+				key -> new ConcreteReusable(key), 1, 1)) {
+			assertThrows(IllegalArgumentException.class, () -> pool.borrowObject(null));
+			assertThrows(IllegalArgumentException.class,
+				() -> pool.returnObject("unknown", new ConcreteReusable("Obj1")),
+				"Returning to a key that was never used should throw an exception.");
+		}
+		assertThrows(IllegalArgumentException.class, () -> new KeyedObjectPool<String, ConcreteReusable>(null, 1, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> new KeyedObjectPool<String, ConcreteReusable>(key -> new ConcreteReusable(key), 0, 1));
+	}
+
+	/**
+	 * Test that objects are only accepted back under the key they were borrowed for.
+	 */
+	@Test
+	public void testReturnChecksKey() {
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(
+				key -> new ConcreteReusable(key), 2, 4)) {
+			ConcreteReusable a = pool.borrowObject("tenantA");
+			pool.borrowObject("tenantB");
+
+			assertThrows(IllegalArgumentException.class, () -> pool.returnObject("tenantB", a),
+				"Returning an object under another key should throw an exception.");
+			pool.returnObject("tenantA", a);
+			assertThrows(IllegalArgumentException.class, () -> pool.returnObject("tenantA", a),
+				"Returning the same object twice should throw an exception.");
+			assertEquals(1, pool.getSize("tenantA"));
+			assertEquals(0, pool.getSize("tenantB"));
+			assertThrows(IllegalArgumentException.class, () -> pool.getSize(null));
+		}
+	}
+
+	/**
+	 * Test that objects dropped after a failed reset free their global slot.
+	 */
+	@Test
+	public void testFailedResetReleasesGlobalCapacity() {
+		try (KeyedObjectPool<String, Reusable> pool = new KeyedObjectPool<>(key -> new Reusable() {
+				@Override
+				public void use() {
+					// Nothing to do
+				}
+
+				@Override
+				public void reset() {
+					throw new IllegalStateException("Reset failed.");
+				}
+			}, 2, 2)) {
+			Reusable first = pool.borrowObject("tenantA");
+			Reusable second = pool.borrowObject("tenantA");
+			assertThrows(IllegalStateException.class, () -> pool.returnObject("tenantA", first));
+			assertThrows(IllegalStateException.class, () -> pool.returnObject("tenantA", second));
+
+			assertEquals(0, pool.getTotalCount(), "Dropped objects should not count against the global limit.");
+			assertDoesNotThrow(() -> pool.borrowObject("tenantB"), "Another key should be able to use the freed capacity.");
+		}
+	}
+
+	/**
+	 * Test that the sub-pools of keys that are no longer used are removed.
+	 *
+	 * Keys come and go: once a key's objects are evicted or dropped, or its
+	 * borrow fails, its sub-pool must not stay behind.
+	 */
+	@Test
+	public void testSubPoolsOfRetiredKeysAreRemoved() {
+		try (KeyedObjectPool<String, ConcreteReusable> pool = new KeyedObjectPool<>(key -> {
+				if (key.equals("broken")) {
+					throw new IllegalStateException("Cannot connect.");
+				}
+				return new ConcreteReusable(key);
+			}, 1, 1)) {
+			for (int i = 0; i < 100; i++) {
+				String key = "tenant" + i;
+				pool.returnObject(key, pool.borrowObject(key));
+				assertEquals(1, pool.getKeyCount(), "Only the key holding the idle object should keep a sub-pool.");
+			}
+			assertEquals(1, pool.getSize("tenant99"), "The last key should keep its idle object.");
+			assertEquals(1, pool.getTotalCount(), "Evicted objects should not be counted.");
+
+			assertThrows(IllegalStateException.class, () -> pool.borrowObject("broken"));
+			assertEquals(0, pool.getKeyCount(), "Neither the evicted key nor the failed one should keep a sub-pool.");
+			assertEquals(0, pool.getTotalCount(), "The failed creation should give back its global slot.");
+			assertThrows(IllegalArgumentException.class,
+				() -> pool.returnObject("tenant0", new ConcreteReusable("tenant0")),
+				"A removed key should be unknown.");
+		}
+	}
+}
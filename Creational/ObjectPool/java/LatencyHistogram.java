@@ -0,0 +1,141 @@
+package Creational.ObjectPool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative durations with bounded relative error.
+ *
+ * Values are recorded into log-linear buckets in the style of HdrHistogram:
+ * every power of two is split into 16 linear sub-buckets, so any recorded
+ * value is reported within about 6% of its true value while the whole range
+ * of a {@code long} fits in under a thousand counters.
+ * Recording is a few arithmetic operations and one atomic increment.
+ */
+public final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts; // Number of values recorded in each bucket
+	private final LongAdder total;        // Sum of all recorded values
+	private final AtomicLong max;         // Largest recorded value
+
+	/**
+	 * Constructs an empty histogram.
+	 */
+	public LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKET_COUNT);
+		this.total = new LongAdder();
+		this.max = new AtomicLong();
+	}
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value The value to record, usually a duration in nanoseconds. Negative values are recorded as zero.
+	 */
+	public void record(long value) {
+		long v = Math.max(0, value);
+		counts.incrementAndGet(bucketOf(v));
+		total.add(v);
+		if (v > max.get()) {
+			max.accumulateAndGet(v, Math::max);
+		}
+	}
+
+	/**
+	 * Gets the number of recorded values.
+	 *
+	 * @return The total count over all buckets.
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the largest recorded value.
+	 *
+	 * @return The exact maximum, or 0 if nothing was recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Gets the mean of the recorded values.
+	 *
+	 * @return The exact mean, or 0 if nothing was recorded.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) total.sum() / count;
+	}
+
+	/**
+	 * Gets the value below which the given percentage of recorded values fall.
+	 *
+	 * @param percentile The percentile, between 0 and 100.
+	 * @return The upper bound of the bucket holding the percentile, capped at the maximum, or 0 if nothing was recorded.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Creates an independent copy of the histogram's current state.
+	 *
+	 * Concurrent recordings may or may not be included in the copy.
+	 *
+	 * @return A new histogram with the same counts.
+	 */
+	public LatencyHistogram copy() {
+		LatencyHistogram copy = new LatencyHistogram();
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			copy.counts.set(i, counts.get(i));
+		}
+		copy.total.add(total.sum());
+		copy.max.set(max.get());
+		return copy;
+	}
+
+	/**
+	 * Maps a value to its bucket: exact below 16, log-linear above.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * Largest value that maps to the given bucket.
+	 */
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+		return ((mantissa + 1) << shift) - 1;
+	}
+}
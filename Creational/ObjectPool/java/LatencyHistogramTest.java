@@ -0,0 +1,62 @@
+package Creational.ObjectPool;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the LatencyHistogram class.
+ *
+ * Validates bucket mapping, percentile accuracy and copying.
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Test that every value falls in a bucket whose bounds contain it.
+	 */
+	@Test
+	public void testBucketsContainTheirValues() {
+		long[] values = {0, 1, 15, 16, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE};
+		for (long value : values) {
+			int bucket = LatencyHistogram.bucketOf(value);
+			assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value, "Upper bound too small for " + value);
+			assertTrue(bucket == 0 || LatencyHistogram.upperBoundOf(bucket - 1) < value, "Lower bound too large for " + value);
+		}
+	}
+
+	/**
+	 * Test percentiles over a uniform distribution.
+	 *
+	 * Reported percentiles must stay within the histogram's relative error.
+	 */
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 10_000; i++) {
+			histogram.record(i * 1_000);
+		}
+
+		assertEquals(10_000, histogram.getCount());
+		assertEquals(10_000_000, histogram.getMax());
+		assertEquals(5_000_500, histogram.getMean(), 0.5);
+		long p50 = histogram.getValueAtPercentile(50);
+		long p99 = histogram.getValueAtPercentile(99);
+		assertTrue(Math.abs(p50 - 5_000_000) <= 5_000_000 * 0.07, "p50 out of range: " + p50);
+		assertTrue(Math.abs(p99 - 9_900_000) <= 9_900_000 * 0.07, "p99 out of range: " + p99);
+		assertEquals(10_000_000, histogram.getValueAtPercentile(100), "p100 should be the maximum.");
+	}
+
+	/**
+	 * Test that a copy is independent of the original.
+	 */
+	@Test
+	public void testCopy() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		LatencyHistogram copy = histogram.copy();
+		histogram.record(20);
+
+		assertEquals(1, copy.getCount(), "The copy should not see later recordings.");
+		assertEquals(10, copy.getMax());
+		assertEquals(0, new LatencyHistogram().getValueAtPercentile(99), "An empty histogram should report 0.");
+	}
+}
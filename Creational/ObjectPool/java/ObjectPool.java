@@ -1,9 +1,31 @@
 package Creational.ObjectPool;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jdk.jfr.FlightRecorder;
 
 /**
  * Generic Object Pool for managing reusable objects.
@@ -13,71 +35,573 @@ import java.util.Set;
  * implementing the {@link Reusable} interface can be added to the pool,
  * borrowed, and returned for reuse.
  *
+ * The pool is safe to share between threads. Borrowers that cannot be served
+ * immediately may wait with {@link #borrowObject(Duration)}; waiters are served
+ * in FIFO order and a returned object is handed directly to the oldest waiter.
+ * Waiting uses {@link ReentrantLock} and {@link LockSupport} rather than
+ * monitors, so it does not pin virtual threads to their carriers.
+ *
+ * A pool can also be elastic: constructed with a factory, it creates objects
+ * on demand up to a maximum, keeps a warm minimum of idle objects, and
+ * evicts objects that stay idle longer than a configurable timeout. Elastic
+ * pools hand out the most recently returned object first, so surplus objects
+ * age at the head of the pool and are the ones evicted. Close elastic pools
+ * with an idle timeout to stop their background eviction.
+ *
+ * Usage metrics can be switched on at runtime with {@link #enableMetrics()}.
+ * While they are off, the only cost on the borrow and return paths is a
+ * single volatile read.
+ *
+ * Bulk users can move many objects per lock acquisition with
+ * {@link #borrowMany(int, Collection)} and {@link #returnAll(Collection)}.
+ *
+ * Expensive objects can be created in parallel with {@link #prewarm(int)},
+ * and idle objects can be health-checked in the background with
+ * {@link #enableValidation(Predicate, Duration)}, so borrowers never pay for
+ * validation.
+ *
+ * Borrowers that never return their objects can be found with
+ * {@link #enableAbandonedTracking(double, Duration)}, which samples borrow
+ * stack traces and reclaims objects held past a deadline.
+ *
  * @param <T> The type of objects managed by the pool, which must implement the {@link Reusable} interface.
  */
-public class ObjectPool<T extends Reusable> {
-	private final Queue<T> pool; // Queue to store reusable objects
-	private final Set<T> inPool; // Set to track objects currently in the pool
+public class ObjectPool<T extends Reusable> implements AutoCloseable {
+	private static final System.Logger LOGGER = System.getLogger(ObjectPool.class.getName());
+
+	private final Deque<T> pool; // Idle objects, oldest first
+	private final Map<T, Long> inPool; // Objects currently in the pool, with the time they became idle
+	private final Set<T> borrowed; // Objects handed out and not returned yet
+	private final Queue<Waiter<T>> waiters; // Borrowers waiting for an object, oldest first
+	private final ReentrantLock lock; // Guards all of the above and totalCount
+	private int totalCount; // Objects managed by the pool, idle or borrowed
+
+	private final Supplier<? extends T> factory; // Creates objects on demand, null for a fixed pool
+	private final int minIdle; // Idle objects kept warm by an elastic pool
+	private final int maxTotal; // Upper bound on totalCount for objects created by the factory
+	private final long idleTimeoutNanos; // Idle time before eviction, 0 to never evict
+	private ScheduledExecutorService maintenance; // Runs background tasks such as eviction, created lazily
+
+	private volatile PoolMetrics metrics; // Usage metrics, null while disabled
+	private Runnable statisticsHook; // Emits ObjectPoolStatisticsEvent while metrics are enabled
+
+	private volatile AbandonedObjectTracker<T> abandonedTracker; // Samples borrows, null while disabled
+	private ScheduledFuture<?> abandonedScan; // Reclaims abandoned objects while tracking is enabled
+	private ScheduledFuture<?> validation; // Validates idle objects while validation is enabled
+
+	/**
+	 * A borrower parked in {@link #borrowObject(Duration)}.
+	 *
+	 * The waiter is served under the pool lock, either with an object or with
+	 * room to create one, and only leaves the queue under the same lock, so a
+	 * handoff can never be lost.
+	 */
+	private static final class Waiter<T> {
+		final Thread thread;
+		volatile T item;
+		volatile boolean mayCreate; // Set instead of item when the waiter must create its object
+		int inUse; // Objects in use at handoff, written before item or mayCreate
+
+		Waiter(Thread thread) {
+			this.thread = thread;
+		}
+
+		boolean isServed() {
+			return item != null || mayCreate;
+		}
+	}
 
 	/**
 	 * Constructs an empty ObjectPool.
 	 */
 	public ObjectPool() {
-		this.pool = new LinkedList<>();
-		this.inPool = new HashSet<>();
+		this.pool = new ArrayDeque<>();
+		this.inPool = new HashMap<>();
+		this.borrowed = new HashSet<>();
+		this.waiters = new ArrayDeque<>();
+		this.lock = new ReentrantLock();
+		this.factory = null;
+		this.minIdle = 0;
+		this.maxTotal = Integer.MAX_VALUE;
+		this.idleTimeoutNanos = 0;
+	}
+
+	/**
+	 * Constructs an elastic ObjectPool that never evicts idle objects.
+	 *
+	 * @param factory Creates new objects when the pool is empty.
+	 * @param minIdle The number of idle objects created up front.
+	 * @param maxTotal The maximum number of objects created by the factory.
+	 * @throws IllegalArgumentException if the factory is null or the bounds are invalid.
+	 */
+	public ObjectPool(Supplier<? extends T> factory, int minIdle, int maxTotal) {
+		this(factory, minIdle, maxTotal, null);
+	}
+
+	/**
+	 * Constructs an elastic ObjectPool.
+	 *
+	 * The pool starts with minIdle objects and creates more on demand until
+	 * maxTotal objects exist. If an idle timeout is given, a background reaper
+	 * evicts objects that stay idle longer than the timeout, never shrinking
+	 * the pool below minIdle idle objects, and replaces borrowed objects to
+	 * keep minIdle objects warm.
+	 *
+	 * @param factory Creates new objects when the pool is empty.
+	 * @param minIdle The number of idle objects kept warm.
+	 * @param maxTotal The maximum number of objects created by the factory.
+	 * @param idleTimeout The time an object may stay idle before eviction, or null to never evict.
+	 * @throws IllegalArgumentException if the factory is null or the bounds are invalid.
+	 */
+	public ObjectPool(Supplier<? extends T> factory, int minIdle, int maxTotal, Duration idleTimeout) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Object factory cannot be null.");
+		}
+		if (maxTotal <= 0 || minIdle < 0 || minIdle > maxTotal) {
+			throw new IllegalArgumentException("Pool bounds must satisfy 0 <= minIdle <= maxTotal and maxTotal > 0.");
+		}
+		if (idleTimeout != null && (idleTimeout.isNegative() || idleTimeout.isZero())) {
+			throw new IllegalArgumentException("Idle timeout must be positive.");
+		}
+		this.pool = new ArrayDeque<>();
+		this.inPool = new HashMap<>();
+		this.borrowed = new HashSet<>();
+		this.waiters = new ArrayDeque<>();
+		this.lock = new ReentrantLock();
+		this.factory = factory;
+		this.minIdle = minIdle;
+		this.maxTotal = maxTotal;
+		this.idleTimeoutNanos = idleTimeout == null ? 0 : idleTimeout.toNanos();
+
+		ensureMinIdle();
+		if (idleTimeoutNanos > 0) {
+			long period = Math.max(idleTimeoutNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+			schedule(this::evictIdleObjects, period);
+		}
 	}
 
 	/**
 	 * Adds a reusable object to the pool.
 	 *
 	 * @param obj The reusable object to be added to the pool.
-	 * @throws IllegalArgumentException if the object is null.
+	 * @throws IllegalArgumentException if the object is null or already belongs to the pool.
 	 */
 	public void addObject(T obj) {
 		if (obj == null) {
 			throw new IllegalArgumentException("Cannot add a null object to the pool.");
 		}
-		if (inPool.contains(obj)) {
-			throw new IllegalArgumentException("Object is already in the pool.");
+		lock.lock();
+		try {
+			if (inPool.containsKey(obj)) {
+				throw new IllegalArgumentException("Object is already in the pool.");
+			}
+			if (borrowed.contains(obj)) {
+				throw new IllegalArgumentException("Object is already borrowed from the pool.");
+			}
+			totalCount++;
+			release(obj);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates objects with the pool's factory in parallel and adds them to the pool.
+	 *
+	 * Each object is created on its own virtual thread.
+	 *
+	 * @param count The number of objects to create.
+	 * @return The number of objects added, which is lower than count if maxTotal would be exceeded.
+	 * @throws IllegalStateException if the pool has no factory.
+	 * @see #prewarm(Supplier, int, Executor)
+	 */
+	public int prewarm(int count) {
+		if (factory == null) {
+			throw new IllegalStateException("Only elastic pools can prewarm without a supplier.");
+		}
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			return prewarm(factory, count, executor);
+		}
+	}
+
+	/**
+	 * Creates objects in parallel and adds them to the pool.
+	 *
+	 * Filling a pool with expensive objects one {@link #addObject} at a
+	 * time makes start-up as slow as the sum of all creations; here creations
+	 * run concurrently on the executor, for instance a virtual-thread executor
+	 * for I/O-bound objects or the common fork/join pool for CPU-bound ones.
+	 * Each object joins the pool, or goes to a waiting borrower, as soon as it
+	 * is created. The call returns once every creation has finished. In an
+	 * elastic pool, no more objects are created than maxTotal allows.
+	 *
+	 * @param supplier Creates the objects to add.
+	 * @param count The number of objects to create.
+	 * @param executor Runs the creations.
+	 * @return The number of objects added, which is lower than count if maxTotal would be exceeded.
+	 * @throws IllegalArgumentException if the supplier or executor is null, or count is negative.
+	 * @throws RuntimeException the first exception thrown by the supplier, once all creations have finished.
+	 */
+	public int prewarm(Supplier<? extends T> supplier, int count, Executor executor) {
+		if (supplier == null || executor == null) {
+			throw new IllegalArgumentException("Supplier and executor cannot be null.");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Object count cannot be negative.");
+		}
+		int reserved;
+		lock.lock();
+		try {
+			reserved = Math.min(count, maxTotal - totalCount);
+			totalCount += reserved;
+		} finally {
+			lock.unlock();
+		}
+
+		List<CompletableFuture<Void>> creations = new ArrayList<>(reserved);
+		for (int i = 0; i < reserved; i++) {
+			try {
+				creations.add(CompletableFuture.runAsync(() -> createIdle(supplier), executor));
+			} catch (RuntimeException rejected) {
+				lock.lock();
+				try {
+					releaseCapacity(reserved - i); // Give back the reservations that will never be used
+				} finally {
+					lock.unlock();
+				}
+				throw rejected;
+			}
+		}
+		RuntimeException failure = null;
+		for (CompletableFuture<Void> creation : creations) {
+			try {
+				creation.join();
+			} catch (CompletionException e) {
+				RuntimeException cause = e.getCause() instanceof RuntimeException r ? r : e;
+				if (failure == null) {
+					failure = cause;
+				} else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
 		}
-		pool.offer(obj);
-		inPool.add(obj);
+		return reserved;
 	}
 
 	/**
 	 * Borrows a reusable object from the pool.
 	 *
+	 * An elastic pool creates a new object when none is idle and fewer than
+	 * its maximum exist.
+	 *
 	 * @return A reusable object from the pool.
 	 * @throws IllegalStateException if the pool is empty.
 	 */
 	public T borrowObject() {
-		if (pool.isEmpty()) {
+		PoolMetrics m = metrics;
+		long start = m == null ? 0 : System.nanoTime();
+		T obj;
+		boolean create;
+		int inUse;
+		lock.lock();
+		try {
+			obj = pollIdle();
+			create = obj == null && reserveCreation();
+			inUse = totalCount - pool.size();
+		} finally {
+			lock.unlock();
+		}
+		if (obj == null && !create) {
+			if (m != null) {
+				m.recordFailedBorrow(System.nanoTime() - start, inUse);
+			}
 			throw new IllegalStateException("No available objects in the pool.");
 		}
-		T obj = pool.poll();
-		inPool.remove(obj);
-		return obj;
+		if (create) {
+			obj = createBorrowed();
+		}
+		return borrowed(obj, m, start, inUse);
+	}
+
+	/**
+	 * Borrows a reusable object from the pool, waiting for one to be returned if necessary.
+	 *
+	 * Waiting borrowers are served in the order they arrived. An object
+	 * returned while borrowers are waiting is handed straight to the oldest
+	 * one without passing through the pool. An elastic pool below its
+	 * maximum creates a new object instead of waiting, and when an object is
+	 * dropped while borrowers are waiting, the oldest one creates its
+	 * replacement.
+	 *
+	 * @param timeout The maximum time to wait for an object.
+	 * @return A reusable object from the pool.
+	 * @throws IllegalStateException if no object became available before the timeout.
+	 * @throws InterruptedException if the calling thread is interrupted while waiting.
+	 */
+	public T borrowObject(Duration timeout) throws InterruptedException {
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+		PoolMetrics m = metrics;
+		long start = System.nanoTime();
+		long nanos = timeout.toNanos();
+		T obj;
+		boolean create = false;
+		int inUse;
+		Waiter<T> waiter = null;
+		lock.lock();
+		try {
+			obj = pollIdle();
+			if (obj == null) {
+				create = reserveCreation();
+				if (!create && nanos > 0) {
+					waiter = new Waiter<>(Thread.currentThread());
+					waiters.offer(waiter);
+				}
+			}
+			inUse = totalCount - pool.size();
+		} finally {
+			lock.unlock();
+		}
+		if (obj != null || create) {
+			if (create) {
+				obj = createBorrowed();
+			}
+			return borrowed(obj, m, start, inUse);
+		}
+		if (waiter == null) {
+			if (m != null) {
+				m.recordFailedBorrow(System.nanoTime() - start, inUse);
+			}
+			throw new IllegalStateException("No available objects in the pool.");
+		}
+
+		long deadline = start + nanos;
+		boolean interrupted = false;
+		while (!waiter.isServed()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			LockSupport.parkNanos(this, remaining);
+			if (Thread.interrupted()) {
+				interrupted = true;
+				break;
+			}
+		}
+
+		if (!waiter.isServed()) {
+			lock.lock();
+			try {
+				if (!waiter.isServed()) {
+					waiters.remove(waiter);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		if (waiter.isServed()) {
+			if (interrupted) {
+				Thread.currentThread().interrupt(); // Keep the interrupt for the caller
+			}
+			obj = waiter.item != null ? waiter.item : createBorrowed(); // The room was reserved for this waiter
+			return borrowed(obj, m, start, waiter.inUse);
+		}
+		if (m != null) {
+			m.recordFailedBorrow(System.nanoTime() - start, inUse);
+		}
+		if (interrupted) {
+			throw new InterruptedException();
+		}
+		throw new IllegalStateException("Timed out waiting for an available object in the pool.");
+	}
+
+	/**
+	 * Borrows up to n objects at once, without waiting.
+	 *
+	 * The pool lock is taken once for the whole batch rather than once per
+	 * object. An elastic pool creates the objects it lacks, within maxTotal,
+	 * after releasing the lock. The batch may partly succeed: the borrowed
+	 * objects are added to out and their number is returned.
+	 *
+	 * If the factory or out throws, the objects already added to out stay
+	 * there, borrowed, and the objects taken for the batch but not added yet
+	 * go back to the pool before the exception is propagated.
+	 *
+	 * @param n The number of objects wanted.
+	 * @param out Receives the borrowed objects.
+	 * @return The number of objects added to out, between 0 and n.
+	 * @throws IllegalArgumentException if n is negative or out is null.
+	 * @throws RuntimeException if the factory or out throws.
+	 */
+	public int borrowMany(int n, Collection<? super T> out) {
+		if (n < 0 || out == null) {
+			throw new IllegalArgumentException("Batch size cannot be negative and the output collection cannot be null.");
+		}
+		PoolMetrics m = metrics;
+		long start = m == null ? 0 : System.nanoTime();
+		int count = borrowAvailable(n, out, m, start);
+		if (count < n && m != null) {
+			m.recordFailedBorrow(System.nanoTime() - start, getTotalCount() - getSize());
+		}
+		return count;
+	}
+
+	/**
+	 * Borrows n objects at once, waiting up to the timeout for those not immediately available.
+	 *
+	 * The available objects are taken as in {@link #borrowMany(int, Collection)};
+	 * the rest are then awaited one by one in the FIFO queue of waiting
+	 * borrowers. If the timeout expires, the objects obtained so far stay in
+	 * out and their number is returned. If the thread is interrupted, or the
+	 * factory or out throws, the objects obtained so far also stay in out.
+	 *
+	 * @param n The number of objects wanted.
+	 * @param out Receives the borrowed objects.
+	 * @param timeout The maximum time to wait for the whole batch.
+	 * @return The number of objects added to out, between 0 and n.
+	 * @throws IllegalArgumentException if n is negative or out is null.
+	 * @throws InterruptedException if the calling thread is interrupted while waiting.
+	 */
+	public int borrowMany(int n, Collection<? super T> out, Duration timeout) throws InterruptedException {
+		if (n < 0 || out == null) {
+			throw new IllegalArgumentException("Batch size cannot be negative and the output collection cannot be null.");
+		}
+		long deadline = System.nanoTime() + timeout.toNanos();
+		PoolMetrics m = metrics;
+		int count = borrowAvailable(n, out, m, m == null ? 0 : System.nanoTime());
+		while (count < n) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				break;
+			}
+			T obj;
+			try {
+				obj = borrowObject(Duration.ofNanos(remaining));
+			} catch (IllegalStateException timedOut) {
+				break;
+			}
+			out.add(obj);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns a batch of objects to the pool.
+	 *
+	 * The pool lock is taken once to check and reserve the whole batch and
+	 * once to put it back, rather than twice per object; objects are reset in
+	 * between, without the lock. Waiting borrowers are served first, as with
+	 * {@link #returnObject}. The batch is rejected as a whole if it contains a
+	 * null, an object not currently borrowed from the pool or the same object
+	 * twice. Objects
+	 * whose reset fails are dropped while the rest of the batch is still
+	 * returned, and the first reset failure is then rethrown.
+	 *
+	 * @param objs The objects to return.
+	 * @throws IllegalArgumentException if the collection is null or the batch is rejected.
+	 */
+	public void returnAll(Collection<? extends T> objs) {
+		if (objs == null) {
+			throw new IllegalArgumentException("Cannot return a null collection to the pool.");
+		}
+		List<T> batch = new ArrayList<>(objs);
+		for (T obj : batch) {
+			if (obj == null) {
+				throw new IllegalArgumentException("Cannot return a null object to the pool.");
+			}
+		}
+		lock.lock();
+		try {
+			for (int i = 0; i < batch.size(); i++) {
+				T obj = batch.get(i);
+				if (!borrowed.remove(obj)) {
+					IllegalArgumentException rejected = notBorrowed(obj);
+					for (int j = 0; j < i; j++) {
+						inPool.remove(batch.get(j)); // Undo the reservations of this batch
+						borrowed.add(batch.get(j));
+					}
+					throw rejected;
+				}
+				inPool.put(obj, 0L); // Reserve the object while it is reset
+			}
+		} finally {
+			lock.unlock();
+		}
+		AbandonedObjectTracker<T> tracker = abandonedTracker;
+		if (tracker != null) {
+			for (T obj : batch) {
+				tracker.recordReturn(obj);
+			}
+		}
+
+		RuntimeException failure = null;
+		boolean[] failed = new boolean[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			try {
+				batch.get(i).reset(); // Reset outside the lock, it may be arbitrarily expensive
+			} catch (RuntimeException e) {
+				failed[i] = true;
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		lock.lock();
+		try {
+			for (int i = 0; i < batch.size(); i++) {
+				T obj = batch.get(i);
+				inPool.remove(obj);
+				if (failed[i]) {
+					releaseCapacity(1); // An object that failed to reset is not reused
+				} else {
+					release(obj);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		PoolMetrics m = metrics;
+		if (m != null) {
+			for (int i = 0; i < batch.size(); i++) {
+				m.recordReturn();
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
 	}
 
 	/**
 	 * Returns a reusable object to the pool.
 	 *
 	 * The returned object is reset to its initial state before being added
-	 * back to the pool.
+	 * back to the pool. If borrowers are waiting, the object is handed to the
+	 * oldest of them instead.
 	 *
 	 * @param obj The reusable object to return to the pool.
-	 * @throws IllegalArgumentException if the object is null.
+	 * @throws IllegalArgumentException if the object is null or not currently borrowed from the pool.
 	 */
 	public void returnObject(T obj) {
 		if (obj == null) {
 			throw new IllegalArgumentException("Cannot return a null object to the pool.");
 		}
-		if (inPool.contains(obj)) {
-			throw new IllegalArgumentException("Object is already in the pool.");
+		AbandonedObjectTracker<T> tracker = abandonedTracker;
+		if (tracker != null) {
+			tracker.recordReturn(obj);
+		}
+		restore(obj);
+		PoolMetrics m = metrics;
+		if (m != null) {
+			m.recordReturn();
 		}
-		obj.reset();
-		pool.offer(obj);
-		inPool.add(obj);
 	}
 
 	/**
@@ -86,6 +610,734 @@ public class ObjectPool<T extends Reusable> {
 	 * @return The number of reusable objects currently in the pool.
 	 */
 	public int getSize() {
-		return pool.size();
+		lock.lock();
+		try {
+			return pool.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of objects managed by the pool.
+	 *
+	 * @return The number of objects currently idle in the pool or borrowed from it.
+	 */
+	public int getTotalCount() {
+		lock.lock();
+		try {
+			return totalCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of borrowers currently waiting for an object.
+	 *
+	 * @return The number of threads blocked in {@link #borrowObject(Duration)}.
+	 */
+	public int getWaiterCount() {
+		lock.lock();
+		try {
+			return waiters.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Evicts the idle object at the head of the pool.
+	 *
+	 * Used by owners that balance capacity across several pools, such as
+	 * {@link KeyedObjectPool}. In an elastic pool the head holds the object
+	 * that has been idle longest.
+	 *
+	 * @return The evicted object, or null if no object is idle.
+	 */
+	T evictIdleObject() {
+		lock.lock();
+		try {
+			T obj = pool.pollFirst();
+			if (obj != null) {
+				inPool.remove(obj);
+				releaseCapacity(1);
+			}
+			return obj;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts collecting usage metrics.
+	 *
+	 * Metrics cover borrows, failed borrows, returns, the time spent waiting
+	 * in each borrow and the high-water mark of objects in use. While metrics
+	 * are enabled, every borrow is published as a JFR event and the pool's
+	 * gauges are published once per second. Calling this method again has no
+	 * effect.
+	 */
+	public void enableMetrics() {
+		Runnable hook;
+		lock.lock();
+		try {
+			if (metrics != null) {
+				return;
+			}
+			metrics = new PoolMetrics();
+			hook = this::emitStatisticsEvent;
+			statisticsHook = hook;
+		} finally {
+			lock.unlock();
+		}
+		FlightRecorder.addPeriodicEvent(ObjectPoolStatisticsEvent.class, hook);
+	}
+
+	/**
+	 * Stops collecting usage metrics and discards those collected so far.
+	 */
+	public void disableMetrics() {
+		Runnable hook;
+		lock.lock();
+		try {
+			metrics = null;
+			hook = statisticsHook;
+			statisticsHook = null;
+		} finally {
+			lock.unlock();
+		}
+		if (hook != null) {
+			FlightRecorder.removePeriodicEvent(hook);
+		}
+	}
+
+	/**
+	 * Captures the current usage metrics of the pool.
+	 *
+	 * @return The counters collected since metrics were enabled and the pool's current gauges.
+	 * @throws IllegalStateException if metrics are not enabled.
+	 */
+	public PoolMetrics.Snapshot getMetricsSnapshot() {
+		lock.lock();
+		try {
+			if (metrics == null) {
+				throw new IllegalStateException("Metrics are not enabled for this pool.");
+			}
+			return metrics.snapshot(pool.size(), totalCount - pool.size(), waiters.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts health-checking idle objects in the background.
+	 *
+	 * Every interval, the pool's maintenance thread validates each idle
+	 * object. The object is taken out of the pool while it is checked, one at
+	 * a time and without holding the pool lock, so borrowers never wait for a
+	 * validation. Objects that pass go back to the pool, keeping their idle
+	 * time; objects that fail, or whose validation throws, are dropped and an
+	 * elastic pool tops itself back up to minIdle. Enabling validation again
+	 * replaces the previous validator.
+	 *
+	 * @param validator Returns true if an idle object is still usable.
+	 * @param interval The time between two validation rounds.
+	 * @throws IllegalArgumentException if the validator is null or the interval is not positive.
+	 */
+	public void enableValidation(Predicate<? super T> validator, Duration interval) {
+		if (validator == null) {
+			throw new IllegalArgumentException("Validator cannot be null.");
+		}
+		if (interval == null || interval.isNegative() || interval.isZero()) {
+			throw new IllegalArgumentException("Validation interval must be positive.");
+		}
+		disableValidation();
+		lock.lock();
+		try {
+			validation = schedule(() -> validateIdleObjects(validator), interval.toNanos());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops health-checking idle objects.
+	 */
+	public void disableValidation() {
+		lock.lock();
+		try {
+			if (validation != null) {
+				validation.cancel(false);
+				validation = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts detecting abandoned objects, logging them as warnings with the borrow site.
+	 *
+	 * @param sampleRate The fraction of borrows whose stack trace is recorded, between 0 and 1.
+	 * @param deadline How long a sampled object may be held before it is reclaimed.
+	 * @throws IllegalArgumentException if the sample rate or deadline is out of range.
+	 * @see #enableAbandonedTracking(double, Duration, Consumer)
+	 */
+	public void enableAbandonedTracking(double sampleRate, Duration deadline) {
+		enableAbandonedTracking(sampleRate, deadline, report -> LOGGER.log(System.Logger.Level.WARNING,
+			"Abandoned object " + report.object() + " reclaimed after " + report.heldFor().toMillis() + " ms.",
+			report.borrowSite()));
+	}
+
+	/**
+	 * Starts detecting abandoned objects.
+	 *
+	 * A sampled fraction of borrows records the borrower's stack trace. A
+	 * background task reclaims every sampled object held for longer than the
+	 * deadline: the object is reset, put back in the pool, and reported to the
+	 * listener together with the stack trace of its borrow. Reclaiming assumes
+	 * the borrower has really abandoned the object; a later return of the same
+	 * object is treated like any other return. Enabling tracking again
+	 * replaces the previous settings.
+	 *
+	 * @param sampleRate The fraction of borrows whose stack trace is recorded, between 0 and 1.
+	 * @param deadline How long a sampled object may be held before it is reclaimed.
+	 * @param listener Receives a report for each reclaimed object, on the pool's maintenance thread;
+	 *        exceptions it throws are logged and do not stop the tracking.
+	 * @throws IllegalArgumentException if the sample rate or deadline is out of range, or the listener is null.
+	 */
+	public void enableAbandonedTracking(double sampleRate, Duration deadline,
+			Consumer<? super AbandonedObjectReport<T>> listener) {
+		if (!(sampleRate >= 0 && sampleRate <= 1)) {
+			throw new IllegalArgumentException("Sample rate must be between 0 and 1.");
+		}
+		if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+			throw new IllegalArgumentException("Abandoned object deadline must be positive.");
+		}
+		if (listener == null) {
+			throw new IllegalArgumentException("Abandoned object listener cannot be null.");
+		}
+		disableAbandonedTracking();
+		AbandonedObjectTracker<T> tracker = new AbandonedObjectTracker<>(sampleRate, deadline.toNanos());
+		long period = Math.max(tracker.getDeadlineNanos() / 2, TimeUnit.MILLISECONDS.toNanos(1));
+		lock.lock();
+		try {
+			abandonedTracker = tracker;
+			abandonedScan = schedule(() -> reclaimAbandonedObjects(tracker, listener), period);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops detecting abandoned objects.
+	 */
+	public void disableAbandonedTracking() {
+		lock.lock();
+		try {
+			abandonedTracker = null;
+			if (abandonedScan != null) {
+				abandonedScan.cancel(false);
+				abandonedScan = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the background maintenance of the pool.
+	 *
+	 * Idle and borrowed objects are left untouched; the pool stays usable but
+	 * no longer evicts, validates or reclaims objects, nor publishes periodic
+	 * metrics events.
+	 */
+	@Override
+	public void close() {
+		disableMetrics();
+		disableAbandonedTracking();
+		disableValidation();
+		ScheduledExecutorService executor;
+		lock.lock();
+		try {
+			executor = maintenance;
+			maintenance = null;
+		} finally {
+			lock.unlock();
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Takes up to n idle objects under a single lock acquisition, then creates what is missing.
+	 *
+	 * Objects that do not reach out, because out or the factory throws, go
+	 * back to the pool and unused reservations are given back.
+	 *
+	 * @return The number of objects added to out.
+	 */
+	private int borrowAvailable(int n, Collection<? super T> out, PoolMetrics m, long start) {
+		List<T> batch = new ArrayList<>(Math.min(n, 64));
+		int creations;
+		int inUse;
+		lock.lock();
+		try {
+			T obj;
+			while (batch.size() < n && (obj = pollIdle()) != null) {
+				batch.add(obj);
+			}
+			creations = factory == null ? 0 : Math.min(n - batch.size(), maxTotal - totalCount);
+			totalCount += creations;
+			inUse = totalCount - pool.size();
+		} finally {
+			lock.unlock();
+		}
+
+		int taken = 0;   // Idle objects of the batch added to out
+		int created = 0; // Reservations used up, create() gives back its own if it fails
+		T fresh = null;  // Created object not added to out yet
+		try {
+			for (; taken < batch.size(); taken++) {
+				out.add(batch.get(taken));
+				borrowed(batch.get(taken), m, start, inUse);
+			}
+			while (created < creations) {
+				created++;
+				fresh = createBorrowed();
+				out.add(fresh);
+				borrowed(fresh, m, start, inUse);
+				fresh = null;
+			}
+		} finally {
+			if (taken < batch.size() || fresh != null || created < creations) {
+				lock.lock();
+				try {
+					for (T obj : batch.subList(taken, batch.size())) {
+						borrowed.remove(obj); // Never reached the caller, still clean
+						release(obj);
+					}
+					if (fresh != null) {
+						borrowed.remove(fresh);
+						release(fresh);
+					}
+					releaseCapacity(creations - created);
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+		return taken + created;
+	}
+
+	/**
+	 * Records a successful borrow for metrics and abandoned-object tracking.
+	 *
+	 * @return The borrowed object.
+	 */
+	private T borrowed(T obj, PoolMetrics m, long start, int inUse) {
+		if (m != null) {
+			m.recordBorrow(System.nanoTime() - start, inUse);
+		}
+		AbandonedObjectTracker<T> tracker = abandonedTracker;
+		if (tracker != null) {
+			tracker.recordBorrow(obj);
+		}
+		return obj;
+	}
+
+	/**
+	 * Removes the next idle object from the pool and marks it borrowed, or returns null if none is idle.
+	 *
+	 * Fixed pools are FIFO; elastic pools reuse the most recently returned
+	 * object. Must be called with the lock held.
+	 */
+	private T pollIdle() {
+		T obj = factory == null ? pool.pollFirst() : pool.pollLast();
+		if (obj != null) {
+			inPool.remove(obj);
+			borrowed.add(obj);
+		}
+		return obj;
+	}
+
+	/**
+	 * Claims room for one more object from the factory.
+	 *
+	 * Must be called with the lock held.
+	 *
+	 * @return true if the caller must now create an object with {@link #create()}.
+	 */
+	private boolean reserveCreation() {
+		if (factory == null || totalCount >= maxTotal) {
+			return false;
+		}
+		totalCount++;
+		return true;
+	}
+
+	/**
+	 * Creates an object for a reservation made by {@link #reserveCreation()}.
+	 *
+	 * Runs without the lock held, the factory may be slow. The reservation is
+	 * given back if the factory fails.
+	 */
+	private T create() {
+		T obj = null;
+		try {
+			obj = factory.get();
+		} finally {
+			if (obj == null) {
+				lock.lock();
+				try {
+					releaseCapacity(1);
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+		if (obj == null) {
+			throw new IllegalStateException("Object factory returned null.");
+		}
+		return obj;
+	}
+
+	/**
+	 * Creates an object for a reservation made by {@link #reserveCreation()} and marks it borrowed.
+	 *
+	 * Runs without the lock held, apart from the final marking.
+	 */
+	private T createBorrowed() {
+		T obj = create();
+		lock.lock();
+		try {
+			borrowed.add(obj);
+		} finally {
+			lock.unlock();
+		}
+		return obj;
+	}
+
+	/**
+	 * Creates an object for a reservation made by {@link #prewarm(Supplier, int, Executor)} and adds it to the pool.
+	 *
+	 * Runs without the lock held. The reservation is given back if the object cannot be added.
+	 */
+	private void createIdle(Supplier<? extends T> supplier) {
+		T obj = null;
+		boolean added = false;
+		try {
+			obj = supplier.get();
+			lock.lock();
+			try {
+				if (obj != null && !inPool.containsKey(obj) && !borrowed.contains(obj)) {
+					release(obj);
+					added = true;
+				}
+			} finally {
+				lock.unlock();
+			}
+		} finally {
+			if (!added) {
+				lock.lock();
+				try {
+					releaseCapacity(1);
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+		if (obj == null) {
+			throw new IllegalStateException("Object supplier returned null.");
+		}
+		if (!added) {
+			throw new IllegalArgumentException("Object is already in the pool.");
+		}
+	}
+
+	/**
+	 * Resets a borrowed object and puts it back in the pool, or hands it to a waiter.
+	 *
+	 * @throws IllegalArgumentException if the object is not currently borrowed.
+	 */
+	private void restore(T obj) {
+		lock.lock();
+		try {
+			if (!borrowed.remove(obj)) {
+				throw notBorrowed(obj);
+			}
+			inPool.put(obj, 0L); // Reserve the object while it is reset, so it cannot be added meanwhile
+		} finally {
+			lock.unlock();
+		}
+
+		try {
+			obj.reset(); // Reset outside the lock, it may be arbitrarily expensive
+		} catch (RuntimeException e) {
+			lock.lock();
+			try {
+				inPool.remove(obj); // An object that failed to reset is not reused
+				releaseCapacity(1);
+			} finally {
+				lock.unlock();
+			}
+			throw e;
+		}
+		lock.lock();
+		try {
+			inPool.remove(obj);
+			release(obj);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Builds the exception rejecting the return of an object that is not currently borrowed.
+	 *
+	 * Must be called with the lock held.
+	 */
+	private IllegalArgumentException notBorrowed(T obj) {
+		return new IllegalArgumentException(inPool.containsKey(obj)
+			? "Object is already in the pool." : "Object was not borrowed from this pool.");
+	}
+
+	/**
+	 * Hands an object to the oldest waiter, or puts it back in the pool if nobody is waiting.
+	 *
+	 * Must be called with the lock held.
+	 */
+	private void release(T obj) {
+		Waiter<T> waiter = waiters.poll();
+		if (waiter != null) {
+			borrowed.add(obj);
+			waiter.inUse = totalCount - pool.size();
+			waiter.item = obj;
+			LockSupport.unpark(waiter.thread);
+			return;
+		}
+		pool.offerLast(obj);
+		inPool.put(obj, idleTimeoutNanos > 0 ? System.nanoTime() : 0L);
+	}
+
+	/**
+	 * Forgets dropped objects or gives back unused reservations, passing the freed room on to waiters.
+	 *
+	 * Borrowers only wait while an elastic pool is at maxTotal, and only
+	 * returned objects would wake them. Room freed while they wait is
+	 * therefore reserved for the oldest ones, which create their objects
+	 * themselves, so a new borrower cannot take it first. Must be called with
+	 * the lock held.
+	 */
+	private void releaseCapacity(int count) {
+		totalCount -= count;
+		while (factory != null && totalCount < maxTotal && !waiters.isEmpty()) {
+			Waiter<T> waiter = waiters.poll();
+			totalCount++;
+			waiter.inUse = totalCount - pool.size();
+			waiter.mayCreate = true;
+			LockSupport.unpark(waiter.thread);
+		}
+	}
+
+	/**
+	 * Tops the pool up to minIdle idle objects, within maxTotal.
+	 */
+	private void ensureMinIdle() {
+		int missing;
+		lock.lock();
+		try {
+			missing = Math.min(minIdle - pool.size(), maxTotal - totalCount);
+			if (missing <= 0) {
+				return;
+			}
+			totalCount += missing;
+		} finally {
+			lock.unlock();
+		}
+		int remaining = missing;
+		try {
+			while (remaining > 0) {
+				remaining--; // create() gives this reservation back itself if it fails
+				T obj = create();
+				lock.lock();
+				try {
+					release(obj);
+				} finally {
+					lock.unlock();
+				}
+			}
+		} finally {
+			if (remaining > 0) {
+				lock.lock();
+				try {
+					releaseCapacity(remaining); // Reservations left unused after a failure
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts objects idle for longer than the idle timeout, then restores the warm minimum.
+	 *
+	 * The oldest idle object is always at the head of the pool.
+	 */
+	private void evictIdleObjects() {
+		long now = System.nanoTime();
+		lock.lock();
+		try {
+			while (pool.size() > minIdle && now - inPool.get(pool.peekFirst()) >= idleTimeoutNanos) {
+				inPool.remove(pool.pollFirst());
+				releaseCapacity(1);
+			}
+		} finally {
+			lock.unlock();
+		}
+		ensureMinIdle();
+	}
+
+	/**
+	 * Validates the objects idle at the start of the round, one at a time.
+	 *
+	 * An object under validation stays in inPool, so it cannot be added or
+	 * returned twice, but not in the pool, so it cannot be borrowed.
+	 *
+	 * The candidates are validated from the youngest to the oldest and valid
+	 * ones go back to the head, so the pool ends the round in its original
+	 * order, oldest first, with any object returned meanwhile behind them.
+	 * The candidate to remove always sits right before the objects returned
+	 * since the round started, so finding it from the tail only walks past
+	 * those.
+	 */
+	private void validateIdleObjects(Predicate<? super T> validator) {
+		List<T> candidates;
+		long[] idleSince;
+		lock.lock();
+		try {
+			candidates = new ArrayList<>(pool);
+			idleSince = new long[candidates.size()];
+			for (int i = 0; i < idleSince.length; i++) {
+				idleSince[i] = inPool.get(candidates.get(i));
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		boolean dropped = false;
+		for (int i = candidates.size() - 1; i >= 0; i--) {
+			T obj = candidates.get(i);
+			lock.lock();
+			try {
+				Long since = inPool.get(obj);
+				if (since == null || since != idleSince[i] || !pool.removeLastOccurrence(obj)) {
+					continue; // Borrowed, evicted or returned again since the round started
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			boolean valid;
+			try {
+				valid = validator.test(obj);
+			} catch (RuntimeException e) {
+				valid = false;
+			}
+
+			lock.lock();
+			try {
+				inPool.remove(obj);
+				if (!valid) {
+					releaseCapacity(1);
+					dropped = true;
+				} else if (!waiters.isEmpty()) {
+					release(obj);
+				} else {
+					pool.offerFirst(obj); // Ahead of the younger candidates validated before it
+					inPool.put(obj, idleSince[i]);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		if (dropped) {
+			ensureMinIdle();
+		}
+	}
+
+	/**
+	 * Publishes the pool's gauges, called by JFR at the start of each period.
+	 */
+	private void emitStatisticsEvent() {
+		ObjectPoolStatisticsEvent event = new ObjectPoolStatisticsEvent();
+		if (!event.shouldCommit()) {
+			return;
+		}
+		lock.lock();
+		try {
+			PoolMetrics m = metrics;
+			if (m == null) {
+				return;
+			}
+			event.idle = pool.size();
+			event.inUse = totalCount - pool.size();
+			event.waiting = waiters.size();
+			event.highWaterMark = m.getHighWaterMark();
+		} finally {
+			lock.unlock();
+		}
+		event.commit();
+	}
+
+	/**
+	 * Puts sampled objects held past the deadline back in the pool and reports them.
+	 */
+	private void reclaimAbandonedObjects(AbandonedObjectTracker<T> tracker,
+			Consumer<? super AbandonedObjectReport<T>> listener) {
+		for (AbandonedObjectReport<T> report : tracker.collectAbandoned()) {
+			try {
+				restore(report.object());
+			} catch (IllegalArgumentException alreadyReturned) {
+				continue; // Returned between the scan and the reclaim
+			} catch (RuntimeException resetFailed) {
+				// restore() dropped the object, it is still worth reporting
+			}
+			try {
+				listener.accept(report);
+			} catch (RuntimeException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Abandoned object listener failed.", e); // Keep reclaiming the others
+			}
+		}
+	}
+
+	/**
+	 * Runs a task periodically on the pool's maintenance thread, creating it on first use.
+	 *
+	 * A run that throws is logged and the task keeps running, so a transient
+	 * failure, for instance of the factory, cannot stop pool maintenance.
+	 *
+	 * @return The handle used to cancel the task.
+	 */
+	private ScheduledFuture<?> schedule(Runnable task, long periodNanos) {
+		Runnable guarded = () -> {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Object pool maintenance task failed.", e);
+			}
+		};
+		lock.lock();
+		try {
+			if (maintenance == null) {
+				maintenance = Executors.newSingleThreadScheduledExecutor(
+					Thread.ofPlatform().name("object-pool-maintenance").daemon().factory());
+			}
+			return maintenance.scheduleWithFixedDelay(guarded, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+		} finally {
+			lock.unlock();
+		}
 	}
 }
@@ -0,0 +1,34 @@
+package Creational.ObjectPool;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted for each borrow from an {@link ObjectPool} with metrics enabled.
+ *
+ * Like all custom events it is recorded once a recording is started, for
+ * example with {@code jcmd <pid> JFR.start}. Each event carries the wait time
+ * and the borrower's stack trace, so sorting by wait time in JDK Mission
+ * Control shows which call sites stall on the pool.
+ */
+@Name("Creational.ObjectPool.Borrow")
+@Label("Object Pool Borrow")
+@Category("Object Pool")
+@Description("An object was borrowed from an ObjectPool, or the borrower gave up")
+final class ObjectPoolBorrowEvent extends jdk.jfr.Event {
+	@Label("Wait Time")
+	@Description("Time between the borrow call and the object becoming available")
+	@Timespan(Timespan.NANOSECONDS)
+	long waitTime;
+
+	@Label("In Use")
+	@Description("Objects borrowed from the pool after this borrow")
+	int inUse;
+
+	@Label("Failed")
+	@Description("Whether the borrower gave up because the pool was empty or the timeout elapsed")
+	boolean failed;
+}
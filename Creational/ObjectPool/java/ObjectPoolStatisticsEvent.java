@@ -0,0 +1,32 @@
+package Creational.ObjectPool;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic JFR event carrying the gauges of an {@link ObjectPool} with metrics enabled.
+ */
+@Name("Creational.ObjectPool.Statistics")
+@Label("Object Pool Statistics")
+@Category("Object Pool")
+@Description("Idle, in-use and waiting counts of an ObjectPool")
+@Period("1 s")
+@StackTrace(false)
+final class ObjectPoolStatisticsEvent extends jdk.jfr.Event {
+	@Label("Idle")
+	int idle;
+
+	@Label("In Use")
+	int inUse;
+
+	@Label("Waiting")
+	int waiting;
+
+	@Label("High-Water Mark")
+	@Description("Largest number of objects in use at the same time")
+	int highWaterMark;
+}
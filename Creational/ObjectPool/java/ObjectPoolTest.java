@@ -1,5 +1,19 @@
 package Creational.ObjectPool;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -191,4 +205,753 @@ public class ObjectPoolTest {
 		// Verify pool integrity
 		assertEquals(1, pool.getSize(), "Pool size should not change due to duplicate return.");
 	}
+
+	/**
+	 * Test that only borrowed objects can be returned.
+	 *
+	 * An object the pool never handed out must be rejected before it is
+	 * reset, without changing the pool's count, and a borrowed object cannot
+	 * be added again.
+	 */
+	@Test
+	public void testReturnOfObjectNotBorrowedIsRejected() {
+		try (ObjectPool<Reusable> pool = new ObjectPool<>(() -> new ConcreteReusable("Obj"), 0, 1)) {
+			Reusable held = pool.borrowObject();
+			Reusable foreign = new Reusable() {
+				@Override
+				public void use() {
+				}
+
+				@Override
+				public void reset() {
+					fail("An object that was not borrowed should not be reset.");
+				}
+			};
+			assertThrows(IllegalArgumentException.class, () -> pool.returnObject(foreign),
+				"Returning an object that was never borrowed should throw an exception.");
+			assertThrows(IllegalArgumentException.class, () -> pool.returnObject(new ConcreteReusable("Foreign")));
+			assertThrows(IllegalArgumentException.class, () -> pool.addObject(held),
+				"A borrowed object should not be added again.");
+			assertEquals(1, pool.getTotalCount(), "Rejected objects should not change the count.");
+			assertEquals(0, pool.getSize(), "Rejected objects should not enter the pool.");
+
+			pool.returnObject(held);
+			assertSame(held, pool.borrowObject(), "The borrowed object should still be returnable.");
+		}
+	}
+
+	/**
+	 * Test timed borrowing when an object is available or the pool stays empty.
+	 *
+	 * Ensures that an available object is returned immediately and that an
+	 * empty pool fails once the timeout elapses.
+	 */
+	@Test
+	public void testTimedBorrow() throws InterruptedException {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+		pool.addObject(obj1);
+
+		assertSame(obj1, pool.borrowObject(Duration.ofSeconds(1)), "An available object should be borrowed immediately.");
+		assertThrows(IllegalStateException.class, () -> pool.borrowObject(Duration.ofMillis(20)),
+			"Borrowing from an empty pool should time out.");
+		assertEquals(0, pool.getWaiterCount(), "A timed out borrower should leave the waiter queue.");
+	}
+
+	/**
+	 * Test direct handoff to waiting borrowers in FIFO order.
+	 *
+	 * Two borrowers wait on an empty pool; each returned object must go to
+	 * the borrower that has waited longest, without passing through the pool.
+	 */
+	@Test
+	public void testWaitersServedInArrivalOrder() throws Exception {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			Future<ConcreteReusable> first = executor.submit(() -> pool.borrowObject(Duration.ofSeconds(10)));
+			awaitCondition(() -> pool.getWaiterCount() == 1);
+			Future<ConcreteReusable> second = executor.submit(() -> pool.borrowObject(Duration.ofSeconds(10)));
+			awaitCondition(() -> pool.getWaiterCount() == 2);
+
+			pool.addObject(obj1);
+			assertSame(obj1, first.get(), "The oldest waiter should receive the first object.");
+			pool.returnObject(obj1);
+			assertSame(obj1, second.get(), "The next waiter should receive the returned object.");
+			assertEquals(0, pool.getSize(), "Handed off objects should not pass through the pool.");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test interrupting a waiting borrower.
+	 */
+	@Test
+	public void testInterruptedWaiter() throws Exception {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		List<Throwable> errors = new ArrayList<>();
+		Thread waiter = Thread.ofVirtual().start(() -> {
+			try {
+				pool.borrowObject(Duration.ofSeconds(10));
+			} catch (Throwable t) {
+				errors.add(t);
+			}
+		});
+		awaitCondition(() -> pool.getWaiterCount() == 1);
+		waiter.interrupt();
+		waiter.join();
+
+		assertEquals(1, errors.size(), "The waiter should fail.");
+		assertTrue(errors.get(0) instanceof InterruptedException, "The waiter should see the interrupt.");
+		assertEquals(0, pool.getWaiterCount(), "An interrupted borrower should leave the waiter queue.");
+	}
+
+	/**
+	 * Test many virtual-thread borrowers sharing a small pool.
+	 *
+	 * Every borrower must eventually be served as objects are returned.
+	 */
+	@Test
+	public void testManyVirtualThreadBorrowers() throws Exception {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		pool.addObject(new ConcreteReusable("Obj1"));
+		pool.addObject(new ConcreteReusable("Obj2"));
+
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			List<Future<?>> borrowers = new ArrayList<>();
+			for (int i = 0; i < 50; i++) {
+				borrowers.add(executor.submit(() -> {
+					ConcreteReusable obj = pool.borrowObject(Duration.ofSeconds(10));
+					pool.returnObject(obj);
+					return null;
+				}));
+			}
+			for (Future<?> borrower : borrowers) {
+				borrower.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(2, pool.getSize(), "All objects should be back in the pool.");
+	}
+
+	/**
+	 * Test on-demand creation in an elastic pool.
+	 *
+	 * Verifies that the warm minimum is created up front, that further objects
+	 * are created only when needed, and that creation stops at the maximum.
+	 */
+	@Test
+	public void testElasticPoolCreatesUpToMax() {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 1, 3)) {
+			assertEquals(1, created.get(), "The warm minimum should be created up front.");
+			assertEquals(1, pool.getSize(), "The warm minimum should be idle.");
+
+			pool.borrowObject();
+			pool.borrowObject();
+			pool.borrowObject();
+			assertEquals(3, created.get(), "Objects should be created on demand.");
+			assertEquals(3, pool.getTotalCount(), "The pool should manage all created objects.");
+			assertThrows(IllegalStateException.class, pool::borrowObject,
+				"Borrowing beyond the maximum should throw an exception.");
+		}
+	}
+
+	/**
+	 * Test that elastic pools reuse the most recently returned object.
+	 */
+	@Test
+	public void testElasticPoolReusesMostRecentObject() {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 0, 2)) {
+			ConcreteReusable obj1 = pool.borrowObject();
+			ConcreteReusable obj2 = pool.borrowObject();
+			pool.returnObject(obj1);
+			pool.returnObject(obj2);
+
+			assertSame(obj2, pool.borrowObject(), "The most recently returned object should be reused first.");
+		}
+	}
+
+	/**
+	 * Test idle eviction in an elastic pool.
+	 *
+	 * Objects idle longer than the timeout must be evicted until only the warm
+	 * minimum remains.
+	 */
+	@Test
+	public void testElasticPoolEvictsIdleObjects() throws InterruptedException {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 1, 4, Duration.ofMillis(20))) {
+			List<ConcreteReusable> borrowed = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				borrowed.add(pool.borrowObject());
+			}
+			for (ConcreteReusable obj : borrowed) {
+				pool.returnObject(obj);
+			}
+			assertEquals(4, pool.getSize(), "All objects should be idle after being returned.");
+
+			awaitCondition(() -> pool.getTotalCount() == 1);
+			assertEquals(1, pool.getSize(), "The warm minimum should survive eviction.");
+		}
+	}
+
+	/**
+	 * Test that a failing factory does not stop the pool from refilling.
+	 *
+	 * Verifies that reservations are given back when creating objects fails,
+	 * and that background maintenance resumes once the factory recovers.
+	 */
+	@Test
+	public void testElasticPoolRecoversFromFactoryFailure() throws InterruptedException {
+		AtomicInteger created = new AtomicInteger();
+		AtomicBoolean failing = new AtomicBoolean();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(() -> {
+				if (failing.get()) {
+					throw new IllegalStateException("Factory unavailable.");
+				}
+				return new ConcreteReusable("Obj" + created.incrementAndGet());
+			}, 2, 6, Duration.ofMillis(10))) {
+			failing.set(true);
+			for (int i = 0; i < 2; i++) {
+				pool.borrowObject();
+			}
+			assertThrows(IllegalStateException.class, pool::borrowObject);
+			Thread.sleep(50); // Several maintenance rounds fail meanwhile
+			assertEquals(2, pool.getTotalCount(), "Failed creations should not keep their reservations.");
+
+			failing.set(false);
+			awaitCondition(() -> pool.getSize() == 2);
+			assertEquals(4, pool.getTotalCount(), "The pool should refill to its warm minimum.");
+		}
+	}
+
+	/**
+	 * Test that room freed while borrowers wait goes to the oldest waiter.
+	 *
+	 * The pool is at its maximum and a borrower waits; when the object held
+	 * fails to reset and is dropped, the waiter must create a new object
+	 * right away rather than time out, and a new borrower must not take the
+	 * freed room first.
+	 */
+	@Test
+	public void testWaiterCreatesObjectWhenRoomIsFreed() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<Reusable> pool = new ObjectPool<>(() -> {
+				created.incrementAndGet();
+				return new Reusable() {
+					@Override
+					public void use() {
+					}
+
+					@Override
+					public void reset() {
+						throw new IllegalStateException("Reset failed.");
+					}
+				};
+			}, 0, 1)) {
+			Reusable held = pool.borrowObject();
+
+			ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+			try {
+				Future<Reusable> waiter = executor.submit(() -> pool.borrowObject(Duration.ofSeconds(30)));
+				awaitCondition(() -> pool.getWaiterCount() == 1);
+				assertThrows(IllegalStateException.class, () -> pool.returnObject(held));
+				assertThrows(IllegalStateException.class, pool::borrowObject,
+					"A new borrower should not take the room freed for the waiter.");
+
+				Reusable obj = waiter.get(5, TimeUnit.SECONDS);
+				assertNotSame(held, obj, "The waiter should receive a new object.");
+				assertEquals(2, created.get(), "The dropped object should be replaced once.");
+				assertEquals(1, pool.getTotalCount(), "The pool should stay at its maximum.");
+				assertEquals(0, pool.getWaiterCount(), "The served waiter should leave the queue.");
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Test invalid elastic pool configurations.
+	 */
+	@Test
+	public void testElasticPoolRejectsInvalidBounds() {
+		assertThrows(IllegalArgumentException.class, () -> new ObjectPool<ConcreteReusable>(null, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>(() -> new ConcreteReusable("Obj"), 2, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ObjectPool<>(() -> new ConcreteReusable("Obj"), 0, 0));
+		assertThrows(IllegalArgumentException.class,
+			() -> new ObjectPool<>(() -> new ConcreteReusable("Obj"), 0, 1, Duration.ZERO));
+	}
+
+	/**
+	 * Test that the metrics snapshot is unavailable until metrics are enabled.
+	 */
+	@Test
+	public void testMetricsDisabledByDefault() {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+
+		assertThrows(IllegalStateException.class, pool::getMetricsSnapshot,
+			"A pool without metrics should not produce a snapshot.");
+	}
+
+	/**
+	 * Test borrow, return and gauge metrics.
+	 *
+	 * Verifies the counters, the in-use and idle gauges and the high-water
+	 * mark after a sequence of borrows, returns and a failed borrow.
+	 */
+	@Test
+	public void testMetricsCountersAndGauges() {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			pool.enableMetrics();
+			pool.addObject(new ConcreteReusable("Obj1"));
+			pool.addObject(new ConcreteReusable("Obj2"));
+
+			ConcreteReusable obj1 = pool.borrowObject();
+			ConcreteReusable obj2 = pool.borrowObject();
+			assertThrows(IllegalStateException.class, pool::borrowObject);
+			pool.returnObject(obj1);
+
+			PoolMetrics.Snapshot snapshot = pool.getMetricsSnapshot();
+			assertEquals(2, snapshot.borrowCount(), "Two borrows should succeed.");
+			assertEquals(1, snapshot.failedBorrowCount(), "One borrow should fail.");
+			assertEquals(1, snapshot.returnCount(), "One object should be returned.");
+			assertEquals(1, snapshot.idle(), "One object should be idle.");
+			assertEquals(1, snapshot.inUse(), "One object should be in use.");
+			assertEquals(2, snapshot.highWaterMark(), "Both objects were in use at the same time.");
+			assertEquals(2, snapshot.waitTimes().getCount(), "Each successful borrow should record its wait time.");
+
+			pool.returnObject(obj2);
+		}
+	}
+
+	/**
+	 * Test that time spent waiting for a returned object is recorded.
+	 */
+	@Test
+	public void testMetricsRecordWaitTime() throws Exception {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			pool.enableMetrics();
+			ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+
+			Thread returner = Thread.ofVirtual().start(() -> {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				pool.addObject(obj1);
+			});
+			assertSame(obj1, pool.borrowObject(Duration.ofSeconds(10)));
+			returner.join();
+
+			long waited = pool.getMetricsSnapshot().waitTimes().getMax();
+			assertTrue(waited >= Duration.ofMillis(40).toNanos(), "The wait should be recorded, was " + waited + " ns.");
+		}
+	}
+
+	/**
+	 * Test borrowing and returning objects in batches.
+	 */
+	@Test
+	public void testBatchBorrowAndReturn() {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		for (int i = 1; i <= 5; i++) {
+			pool.addObject(new ConcreteReusable("Obj" + i));
+		}
+
+		List<ConcreteReusable> batch = new ArrayList<>();
+		assertEquals(3, pool.borrowMany(3, batch), "The whole batch should be borrowed.");
+		assertEquals(2, pool.getSize());
+		assertEquals(2, pool.borrowMany(4, batch), "The batch should partly succeed.");
+		assertEquals(5, batch.size());
+		assertEquals(0, pool.getSize());
+
+		pool.returnAll(batch);
+		assertEquals(5, pool.getSize(), "The whole batch should be returned.");
+		assertThrows(IllegalArgumentException.class, () -> pool.returnAll(batch.subList(0, 1)),
+			"Returning an idle object should reject the batch.");
+		assertEquals(5, pool.getSize(), "A rejected batch should leave the pool unchanged.");
+	}
+
+	/**
+	 * Test that a batch with a duplicate is rejected as a whole.
+	 */
+	@Test
+	public void testReturnAllRejectsDuplicates() {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		pool.addObject(new ConcreteReusable("Obj1"));
+		pool.addObject(new ConcreteReusable("Obj2"));
+		List<ConcreteReusable> batch = new ArrayList<>();
+		pool.borrowMany(2, batch);
+
+		assertThrows(IllegalArgumentException.class,
+			() -> pool.returnAll(List.of(batch.get(0), batch.get(1), batch.get(0))));
+		assertThrows(IllegalArgumentException.class, () -> pool.returnAll(Arrays.asList(batch.get(0), null)));
+		assertEquals(0, pool.getSize(), "No object of a rejected batch should be returned.");
+
+		pool.returnAll(batch);
+		assertEquals(2, pool.getSize(), "The batch should be accepted once fixed.");
+	}
+
+	/**
+	 * Test that an elastic pool creates the missing part of a batch within its maximum.
+	 */
+	@Test
+	public void testBorrowManyFromElasticPool() {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 1, 4)) {
+			List<ConcreteReusable> batch = new ArrayList<>();
+			assertEquals(4, pool.borrowMany(6, batch), "The batch should stop at maxTotal.");
+			assertEquals(4, created.get());
+			assertEquals(4, pool.getTotalCount());
+		}
+	}
+
+	/**
+	 * Test that a batch borrow interrupted by its output collection loses no object.
+	 *
+	 * Objects of the batch that never reach the collection, idle or newly
+	 * created, must go back to the pool, and the unused reservations must be
+	 * given back.
+	 */
+	@Test
+	public void testBorrowManyKeepsObjectsNotAdded() {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 2, 4)) {
+			List<ConcreteReusable> batch = limitedList(1);
+			assertThrows(IllegalStateException.class, () -> pool.borrowMany(3, batch));
+			assertEquals(1, batch.size(), "The object added before the failure should stay borrowed.");
+			assertEquals(1, pool.getSize(), "The idle object not added should be back in the pool.");
+			assertEquals(2, pool.getTotalCount(), "The unused reservation should be given back.");
+
+			pool.returnAll(batch);
+			List<ConcreteReusable> larger = limitedList(2);
+			assertThrows(IllegalStateException.class, () -> pool.borrowMany(3, larger));
+			assertEquals(3, created.get(), "The missing object should have been created.");
+			assertEquals(1, pool.getSize(), "The created object not added should be in the pool.");
+			assertEquals(3, pool.getTotalCount(), "The created object should still be counted.");
+			pool.returnAll(larger);
+			assertEquals(3, pool.getSize(), "Every object should be returnable.");
+		}
+	}
+
+	/**
+	 * Test that a timed batch borrow waits for returned objects and times out with a partial batch.
+	 */
+	@Test
+	public void testTimedBorrowMany() throws Exception {
+		ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+		ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+		ConcreteReusable obj2 = new ConcreteReusable("Obj2");
+		pool.addObject(obj1);
+		pool.addObject(obj2);
+		ConcreteReusable held = pool.borrowObject();
+
+		Thread returner = Thread.ofVirtual().start(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pool.returnObject(held);
+		});
+		List<ConcreteReusable> batch = new ArrayList<>();
+		assertEquals(2, pool.borrowMany(2, batch, Duration.ofSeconds(10)), "The returned object should complete the batch.");
+		returner.join();
+
+		pool.returnObject(batch.get(0));
+		batch.clear();
+		assertEquals(1, pool.borrowMany(3, batch, Duration.ofMillis(20)), "The batch should time out partly filled.");
+		assertEquals(0, pool.getWaiterCount(), "A timed-out batch should not stay queued.");
+	}
+
+	/**
+	 * Test that prewarming creates objects concurrently.
+	 *
+	 * Each creation blocks until all of them have started, so prewarming can
+	 * only finish if the creations run in parallel.
+	 */
+	@Test
+	public void testPrewarmCreatesObjectsInParallel() {
+		int count = 8;
+		CountDownLatch allStarted = new CountDownLatch(count);
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>();
+				ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			int added = pool.prewarm(() -> {
+				allStarted.countDown();
+				try {
+					if (!allStarted.await(5, TimeUnit.SECONDS)) {
+						throw new IllegalStateException("Creations did not run in parallel.");
+					}
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return new ConcreteReusable("Obj" + created.incrementAndGet());
+			}, count, executor);
+
+			assertEquals(count, added, "All objects should be added.");
+			assertEquals(count, pool.getSize(), "All objects should be idle in the pool.");
+			assertEquals(count, pool.getTotalCount());
+		}
+	}
+
+	/**
+	 * Test that prewarming an elastic pool respects its maximum.
+	 */
+	@Test
+	public void testPrewarmElasticPoolRespectsMax() {
+		AtomicInteger created = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(
+				() -> new ConcreteReusable("Obj" + created.incrementAndGet()), 1, 4)) {
+			assertEquals(3, pool.prewarm(10), "Only the room left below maxTotal should be filled.");
+			assertEquals(4, pool.getSize());
+			assertEquals(4, created.get());
+		}
+		try (ObjectPool<ConcreteReusable> fixed = new ObjectPool<>()) {
+			assertThrows(IllegalStateException.class, () -> fixed.prewarm(1),
+				"A pool without a factory needs a supplier to prewarm.");
+		}
+	}
+
+	/**
+	 * Test that a failing creation is reported after the others have been added.
+	 */
+	@Test
+	public void testPrewarmReportsFailures() {
+		AtomicInteger attempts = new AtomicInteger();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			IllegalStateException e = assertThrows(IllegalStateException.class, () -> pool.prewarm(() -> {
+				int attempt = attempts.incrementAndGet();
+				if (attempt == 2) {
+					throw new IllegalStateException("Connection refused");
+				}
+				return new ConcreteReusable("Obj" + attempt);
+			}, 4, Runnable::run));
+
+			assertEquals("Connection refused", e.getMessage());
+			assertEquals(3, pool.getSize(), "The successful creations should be kept.");
+			assertEquals(3, pool.getTotalCount(), "The failed creation should not be counted.");
+		}
+	}
+
+	/**
+	 * Test that background validation drops unhealthy idle objects.
+	 *
+	 * An elastic pool must replace them to keep its warm minimum.
+	 */
+	@Test
+	public void testValidationDropsInvalidObjects() throws InterruptedException {
+		List<ConcreteReusable> created = new CopyOnWriteArrayList<>();
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>(() -> {
+				ConcreteReusable obj = new ConcreteReusable("Obj" + (created.size() + 1));
+				created.add(obj);
+				return obj;
+			}, 3, 10)) {
+			List<ConcreteReusable> broken = List.copyOf(created.subList(0, 2));
+			pool.enableValidation(obj -> !broken.contains(obj), Duration.ofMillis(10));
+
+			awaitCondition(() -> created.size() == 5);
+			awaitCondition(() -> pool.getSize() == 3);
+			assertEquals(3, pool.getTotalCount(), "Dropped objects should no longer be counted.");
+			for (int i = 0; i < 3; i++) {
+				assertFalse(broken.contains(pool.borrowObject()), "Broken objects should be gone.");
+			}
+		}
+	}
+
+	/**
+	 * Test that validation keeps idle objects in their original order.
+	 *
+	 * A fixed pool hands out its oldest idle object first, also after a
+	 * validation round. Rounds run one after the other, so once the second
+	 * round starts the first one is over; the second round is then held on
+	 * its first object, the youngest, while the others are borrowed.
+	 */
+	@Test
+	public void testValidationPreservesIdleOrder() throws InterruptedException {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			List<ConcreteReusable> objects = List.of(
+				new ConcreteReusable("Obj1"), new ConcreteReusable("Obj2"), new ConcreteReusable("Obj3"));
+			for (ConcreteReusable obj : objects) {
+				pool.addObject(obj);
+			}
+			AtomicInteger checks = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+			pool.enableValidation(obj -> {
+				if (checks.incrementAndGet() > objects.size()) {
+					try {
+						release.await(5, TimeUnit.SECONDS); // Holds the second round
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return true;
+			}, Duration.ofMillis(10));
+			awaitCondition(() -> checks.get() > objects.size());
+			pool.disableValidation();
+
+			assertSame(objects.get(0), pool.borrowObject(), "Objects should be borrowed oldest first.");
+			assertSame(objects.get(1), pool.borrowObject(), "Objects should be borrowed oldest first.");
+			release.countDown();
+			awaitCondition(() -> pool.getSize() == 1);
+			assertSame(objects.get(2), pool.borrowObject(), "The youngest object should be validated last.");
+		}
+	}
+
+	/**
+	 * Test that validation errors drop the object and borrowed objects are left alone.
+	 */
+	@Test
+	public void testValidationSkipsBorrowedObjects() throws InterruptedException {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+			ConcreteReusable obj2 = new ConcreteReusable("Obj2");
+			pool.addObject(obj1);
+			pool.addObject(obj2);
+			assertSame(obj1, pool.borrowObject());
+
+			pool.enableValidation(obj -> {
+				throw new IllegalStateException("Health check failed");
+			}, Duration.ofMillis(10));
+			awaitCondition(() -> pool.getSize() == 0);
+			pool.disableValidation();
+
+			assertEquals(1, pool.getTotalCount(), "Only the idle object should be dropped.");
+			pool.returnObject(obj1);
+			assertSame(obj1, pool.borrowObject(), "The borrowed object should still be usable.");
+			assertThrows(IllegalArgumentException.class, () -> pool.enableValidation(null, Duration.ofSeconds(1)));
+			assertThrows(IllegalArgumentException.class, () -> pool.enableValidation(obj -> true, Duration.ZERO));
+		}
+	}
+
+	/**
+	 * Test that an object held past the deadline is reclaimed and reported.
+	 *
+	 * The report must carry the stack trace of the borrow, and the reclaimed
+	 * object must be available to the next borrower.
+	 */
+	@Test
+	public void testAbandonedObjectIsReclaimed() throws InterruptedException {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			List<AbandonedObjectReport<ConcreteReusable>> reports = new CopyOnWriteArrayList<>();
+			pool.enableAbandonedTracking(1.0, Duration.ofMillis(20), reports::add);
+			ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+			pool.addObject(obj1);
+
+			pool.borrowObject(); // Never returned
+			awaitCondition(() -> !reports.isEmpty());
+
+			AbandonedObjectReport<ConcreteReusable> report = reports.get(0);
+			assertSame(obj1, report.object(), "The abandoned object should be reported.");
+			assertTrue(report.heldFor().compareTo(Duration.ofMillis(20)) >= 0, "The object was held past the deadline.");
+			assertTrue(Arrays.stream(report.borrowSite().getStackTrace())
+				.anyMatch(frame -> frame.getMethodName().equals("testAbandonedObjectIsReclaimed")),
+				"The report should point at the borrowing method.");
+			assertEquals(1, pool.getSize(), "The abandoned object should be back in the pool.");
+			assertSame(obj1, pool.borrowObject(), "The reclaimed object should be borrowable again.");
+		}
+	}
+
+	/**
+	 * Test that a throwing listener does not stop the reclaiming of abandoned objects.
+	 */
+	@Test
+	public void testFailingAbandonedListenerKeepsReclaiming() throws InterruptedException {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			AtomicInteger reports = new AtomicInteger();
+			pool.enableAbandonedTracking(1.0, Duration.ofMillis(20), report -> {
+				reports.incrementAndGet();
+				throw new IllegalStateException("Listener failed.");
+			});
+			pool.addObject(new ConcreteReusable("Obj1"));
+			pool.addObject(new ConcreteReusable("Obj2"));
+
+			pool.borrowObject(); // Never returned
+			pool.borrowObject(); // Never returned
+			awaitCondition(() -> reports.get() == 2);
+			assertEquals(2, pool.getSize(), "Every abandoned object should be reclaimed.");
+		}
+	}
+
+	/**
+	 * Test that returned objects and unsampled borrows are never reclaimed.
+	 */
+	@Test
+	public void testReturnedOrUnsampledObjectsAreNotReclaimed() throws InterruptedException {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			List<AbandonedObjectReport<ConcreteReusable>> reports = new CopyOnWriteArrayList<>();
+			ConcreteReusable obj1 = new ConcreteReusable("Obj1");
+			ConcreteReusable obj2 = new ConcreteReusable("Obj2");
+			pool.addObject(obj1);
+			pool.addObject(obj2);
+
+			pool.enableAbandonedTracking(1.0, Duration.ofMillis(10), reports::add);
+			pool.returnObject(pool.borrowObject());
+			assertSame(obj2, pool.borrowObject()); // Held past the deadline, after obj1 was returned
+			awaitCondition(() -> !reports.isEmpty());
+
+			assertEquals(1, reports.size(), "Only the held object should be reported.");
+			assertSame(obj2, reports.get(0).object(), "The returned object should not be reported.");
+		}
+
+		// Deadline 0: a tracked borrow would be abandoned at once
+		AbandonedObjectTracker<ConcreteReusable> unsampled = new AbandonedObjectTracker<>(0.0, 0);
+		unsampled.recordBorrow(new ConcreteReusable("Obj3"));
+		assertTrue(unsampled.collectAbandoned().isEmpty(), "An unsampled borrow should never be reported.");
+	}
+
+	/**
+	 * Test invalid abandoned-object tracking settings.
+	 */
+	@Test
+	public void testInvalidAbandonedTrackingSettings() {
+		try (ObjectPool<ConcreteReusable> pool = new ObjectPool<>()) {
+			assertThrows(IllegalArgumentException.class, () -> pool.enableAbandonedTracking(1.5, Duration.ofSeconds(1)));
+			assertThrows(IllegalArgumentException.class, () -> pool.enableAbandonedTracking(Double.NaN, Duration.ofSeconds(1)));
+			assertThrows(IllegalArgumentException.class, () -> pool.enableAbandonedTracking(0.5, Duration.ZERO));
+			assertThrows(IllegalArgumentException.class, () -> pool.enableAbandonedTracking(0.5, Duration.ofSeconds(1), null));
+		}
+	}
+
+	/**
+	 * Creates a list that throws once it holds limit elements.
+	 */
+	@SuppressWarnings("serial")
+	private static <E> List<E> limitedList(int limit) {
+		return new ArrayList<>() {
+			@Override
+			public boolean add(E e) {
+				if (size() == limit) {
+					throw new IllegalStateException("List is full.");
+				}
+				return super.add(e);
+			}
+		};
+	}
+
+	/**
+	 * Waits until the condition holds, failing the test after a few seconds.
+	 */
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) {
+				fail("Condition not reached in time.");
+			}
+			Thread.sleep(1);
+		}
+	}
 }
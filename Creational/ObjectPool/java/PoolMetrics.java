@@ -0,0 +1,109 @@
+package Creational.ObjectPool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead usage metrics of an {@link ObjectPool}.
+ *
+ * Counters are {@link LongAdder}s and wait times go into a lock-free
+ * {@link LatencyHistogram}, so recording never contends on the pool lock.
+ * Every borrow is also published as an {@link ObjectPoolBorrowEvent} when a
+ * JFR recording is running. Metrics are attached with
+ * {@link ObjectPool#enableMetrics()}; a pool without metrics pays only for a
+ * single null check per operation.
+ */
+public final class PoolMetrics {
+	private final LongAdder borrowCount;       // Successful borrows
+	private final LongAdder failedBorrowCount; // Borrows that found the pool empty or timed out
+	private final LongAdder returnCount;       // Objects returned to the pool
+	private final LatencyHistogram waitTimes;  // Nanoseconds spent in each successful borrow
+	private final AtomicInteger highWaterMark; // Most objects in use at the same time
+
+	/**
+	 * Point-in-time view of a pool's metrics.
+	 *
+	 * @param borrowCount Number of successful borrows.
+	 * @param failedBorrowCount Number of borrows that found the pool empty or timed out.
+	 * @param returnCount Number of objects returned to the pool.
+	 * @param idle Number of objects idle in the pool.
+	 * @param inUse Number of objects currently borrowed.
+	 * @param waiting Number of borrowers currently waiting.
+	 * @param highWaterMark Largest number of objects in use at the same time.
+	 * @param waitTimes Distribution of the time spent in successful borrows, in nanoseconds.
+	 */
+	public record Snapshot(long borrowCount, long failedBorrowCount, long returnCount,
+			int idle, int inUse, int waiting, int highWaterMark, LatencyHistogram waitTimes) {
+	}
+
+	/**
+	 * Constructs empty metrics.
+	 */
+	PoolMetrics() {
+		this.borrowCount = new LongAdder();
+		this.failedBorrowCount = new LongAdder();
+		this.returnCount = new LongAdder();
+		this.waitTimes = new LatencyHistogram();
+		this.highWaterMark = new AtomicInteger();
+	}
+
+	/**
+	 * Records a successful borrow.
+	 *
+	 * @param waitNanos Time spent obtaining the object.
+	 * @param inUse Objects in use once the borrow completed.
+	 */
+	void recordBorrow(long waitNanos, int inUse) {
+		borrowCount.increment();
+		waitTimes.record(waitNanos);
+		if (inUse > highWaterMark.get()) {
+			highWaterMark.accumulateAndGet(inUse, Math::max);
+		}
+		emitBorrowEvent(waitNanos, inUse, false);
+	}
+
+	/**
+	 * Records a borrow that gave up.
+	 *
+	 * @param waitNanos Time spent before giving up.
+	 * @param inUse Objects in use when the borrow gave up.
+	 */
+	void recordFailedBorrow(long waitNanos, int inUse) {
+		failedBorrowCount.increment();
+		emitBorrowEvent(waitNanos, inUse, true);
+	}
+
+	/**
+	 * Records an object returned to the pool.
+	 */
+	void recordReturn() {
+		returnCount.increment();
+	}
+
+	/**
+	 * Gets the largest number of objects in use at the same time.
+	 *
+	 * @return The high-water mark of borrowed objects.
+	 */
+	int getHighWaterMark() {
+		return highWaterMark.get();
+	}
+
+	/**
+	 * Captures the counters together with the pool's current gauges.
+	 */
+	Snapshot snapshot(int idle, int inUse, int waiting) {
+		return new Snapshot(borrowCount.sum(), failedBorrowCount.sum(), returnCount.sum(),
+			idle, inUse, waiting, highWaterMark.get(), waitTimes.copy());
+	}
+
+	private static void emitBorrowEvent(long waitNanos, int inUse, boolean failed) {
+		ObjectPoolBorrowEvent event = new ObjectPoolBorrowEvent();
+		if (event.shouldCommit()) {
+			event.waitTime = waitNanos;
+			event.inUse = inUse;
+			event.failed = failed;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package Creational.ObjectPool;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reusable wrapper around a direct {@link ByteBuffer} slice owned by a {@link ByteBufferPool}.
+ *
+ * The wrapper exists because {@link ByteBuffer#equals(Object)} and
+ * {@link ByteBuffer#hashCode()} depend on the buffer's contents, which makes
+ * raw buffers unsuitable as pool entries. A PooledByteBuffer keeps identity
+ * semantics and remembers which size class it belongs to. It also carries
+ * the pool's bookkeeping: its number within the size class, its link in the
+ * stack of idle buffers and whether it is borrowed.
+ */
+public final class PooledByteBuffer implements Reusable {
+	private static final byte[] ZEROS = new byte[4096]; // Source for zeroing buffers chunk by chunk
+
+	private final ByteBufferPool owner;   // Pool that carved the buffer
+	private final ByteBuffer buffer;      // Slice of a slab, fixed capacity
+	private final int sizeClass;          // Index of the size class in the owning pool
+	private final int index;              // Number of the buffer within its size class
+	private final boolean zeroOnReset;    // Whether reset() also wipes the contents
+	private final AtomicBoolean borrowed; // Whether the buffer is handed out, flipped by the owning pool
+	private int nextIdle;                 // Next idle buffer of the size class, encoded like the stack head
+
+	/**
+	 * Constructs a wrapper around a slice carved by a {@link ByteBufferPool}.
+	 *
+	 * @param owner The pool that carved the slice.
+	 * @param buffer The direct buffer slice.
+	 * @param sizeClass The size class the slice belongs to.
+	 * @param index The number of the slice within its size class.
+	 * @param zeroOnReset Whether {@link #reset()} overwrites the contents with zeros.
+	 */
+	PooledByteBuffer(ByteBufferPool owner, ByteBuffer buffer, int sizeClass, int index, boolean zeroOnReset) {
+		this.owner = owner;
+		this.buffer = buffer;
+		this.sizeClass = sizeClass;
+		this.index = index;
+		this.zeroOnReset = zeroOnReset;
+		this.borrowed = new AtomicBoolean(true); // Carved for a borrower
+	}
+
+	/**
+	 * Gets the underlying buffer.
+	 *
+	 * The buffer must not be used after it is returned to the pool.
+	 *
+	 * @return The direct buffer, cleared when it was borrowed.
+	 */
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	/**
+	 * Gets the capacity of the buffer.
+	 *
+	 * @return The size of the buffer's size class in bytes.
+	 */
+	public int capacity() {
+		return buffer.capacity();
+	}
+
+	/**
+	 * Gets the pool the buffer belongs to.
+	 *
+	 * @return The pool that carved the buffer.
+	 */
+	ByteBufferPool owner() {
+		return owner;
+	}
+
+	/**
+	 * Gets the size class of the buffer.
+	 *
+	 * @return The index of the size class within the owning pool.
+	 */
+	int sizeClass() {
+		return sizeClass;
+	}
+
+	/**
+	 * Gets the number of the buffer within its size class.
+	 *
+	 * @return The index of the buffer, in the order buffers of the size class were carved.
+	 */
+	int index() {
+		return index;
+	}
+
+	/**
+	 * Gets the link to the next idle buffer of the size class.
+	 *
+	 * @return The index + 1 of the next idle buffer, 0 at the bottom of the stack.
+	 */
+	int nextIdle() {
+		return nextIdle;
+	}
+
+	/**
+	 * Stores the link to the next idle buffer of the size class.
+	 *
+	 * @param nextIdle The index + 1 of the next idle buffer, 0 at the bottom of the stack.
+	 */
+	void setNextIdle(int nextIdle) {
+		this.nextIdle = nextIdle;
+	}
+
+	/**
+	 * Marks the buffer as handed out.
+	 */
+	void markBorrowed() {
+		borrowed.set(true);
+	}
+
+	/**
+	 * Marks a borrowed buffer as returned.
+	 *
+	 * @return false if the buffer was not borrowed.
+	 */
+	boolean markReturned() {
+		return borrowed.compareAndSet(true, false);
+	}
+
+	/**
+	 * Buffers have no standalone action; callers work on {@link #buffer()} directly.
+	 */
+	@Override
+	public void use() {
+		// Nothing to do
+	}
+
+	/**
+	 * Clears the buffer's position and limit, restores its big-endian byte order, and wipes its contents if configured to.
+	 */
+	@Override
+	public void reset() {
+		if (zeroOnReset) {
+			int capacity = buffer.capacity();
+			for (int offset = 0; offset < capacity; offset += ZEROS.length) {
+				buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, capacity - offset));
+			}
+		}
+		buffer.clear();
+		buffer.order(ByteOrder.BIG_ENDIAN); // A borrower may have switched it
+	}
+
+	@Override
+	public String toString() {
+		return "PooledByteBuffer{capacity=" + buffer.capacity() + ", position=" + buffer.position()
+			+ ", limit=" + buffer.limit() + "}";
+	}
+}
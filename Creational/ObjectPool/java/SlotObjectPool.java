@@ -0,0 +1,185 @@
+package Creational.ObjectPool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity Object Pool with allocation-free, hash-free bookkeeping.
+ *
+ * Each object added to the pool is bound to a slot for its whole life. The
+ * slot holds a state word (idle, borrowed or being returned) that replaces
+ * the {@code HashSet} membership tracking of {@link ObjectPool}, and idle
+ * slots are linked in a lock-free stack of slot indices. Borrowing and
+ * returning are O(1), allocate nothing, and never call {@code equals} or
+ * {@code hashCode} on pooled objects.
+ *
+ * Objects are handed out in LIFO order, which keeps recently used objects
+ * warm in the CPU caches.
+ *
+ * @param <T> The type of objects managed by the pool, which must implement the {@link SlottedReusable} interface.
+ */
+public class SlotObjectPool<T extends SlottedReusable> {
+	private static final int IDLE = 0;      // In the free stack
+	private static final int BORROWED = 1;  // Handed out to a borrower
+	private static final int RETURNING = 2; // Being reset by returnObject
+
+	private final AtomicReferenceArray<T> objects; // Object bound to each slot
+	private final AtomicIntegerArray states;       // State word of each slot
+	private final int[] next;                      // Free-stack link of each idle slot, encoded like the head
+	private final AtomicLong head;                 // Free-stack top: ABA tag in the high half, slot + 1 in the low half (0 = empty)
+	private final AtomicInteger slotCount;         // Number of slots bound so far
+	private final AtomicInteger size;              // Number of idle objects
+
+	/**
+	 * Constructs an empty SlotObjectPool.
+	 *
+	 * @param capacity The maximum number of objects the pool can hold.
+	 * @throws IllegalArgumentException if the capacity is not positive.
+	 */
+	public SlotObjectPool(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive.");
+		}
+		this.objects = new AtomicReferenceArray<>(capacity);
+		this.states = new AtomicIntegerArray(capacity);
+		this.next = new int[capacity];
+		this.head = new AtomicLong();
+		this.slotCount = new AtomicInteger();
+		this.size = new AtomicInteger();
+	}
+
+	/**
+	 * Adds a reusable object to the pool and binds it to a free slot.
+	 *
+	 * @param obj The reusable object to be added to the pool.
+	 * @throws IllegalArgumentException if the object is null or already belongs to a pool.
+	 * @throws IllegalStateException if every slot is already bound.
+	 */
+	public void addObject(T obj) {
+		if (obj == null) {
+			throw new IllegalArgumentException("Cannot add a null object to the pool.");
+		}
+		if (obj.getPoolSlot() >= 0) {
+			throw new IllegalArgumentException("Object is already in the pool.");
+		}
+		int slot;
+		do {
+			slot = slotCount.get();
+			if (slot >= objects.length()) {
+				throw new IllegalStateException("The pool is full.");
+			}
+		} while (!slotCount.compareAndSet(slot, slot + 1));
+		obj.setPoolSlot(slot);
+		objects.set(slot, obj);
+		states.set(slot, IDLE);
+		size.incrementAndGet();
+		push(slot);
+	}
+
+	/**
+	 * Borrows a reusable object from the pool.
+	 *
+	 * @return A reusable object from the pool.
+	 * @throws IllegalStateException if the pool is empty.
+	 */
+	public T borrowObject() {
+		int slot = pop();
+		if (slot < 0) {
+			throw new IllegalStateException("No available objects in the pool.");
+		}
+		states.set(slot, BORROWED);
+		size.decrementAndGet();
+		return objects.get(slot);
+	}
+
+	/**
+	 * Returns a reusable object to the pool.
+	 *
+	 * The returned object is reset to its initial state before being made
+	 * available to other borrowers.
+	 *
+	 * @param obj The reusable object to return to the pool.
+	 * @throws IllegalArgumentException if the object is null, was not added to this pool, or is already in the pool.
+	 */
+	public void returnObject(T obj) {
+		if (obj == null) {
+			throw new IllegalArgumentException("Cannot return a null object to the pool.");
+		}
+		int slot = obj.getPoolSlot();
+		if (slot < 0 || slot >= objects.length() || objects.get(slot) != obj) {
+			throw new IllegalArgumentException("Object does not belong to this pool.");
+		}
+		if (!states.compareAndSet(slot, BORROWED, RETURNING)) {
+			throw new IllegalArgumentException("Object is already in the pool.");
+		}
+		try {
+			obj.reset();
+		} catch (RuntimeException e) {
+			states.set(slot, BORROWED); // The caller still owns the object
+			throw e;
+		}
+		states.set(slot, IDLE);
+		size.incrementAndGet();
+		push(slot);
+	}
+
+	/**
+	 * Gets the current size of the pool.
+	 *
+	 * @return The number of reusable objects currently in the pool.
+	 */
+	public int getSize() {
+		return size.get();
+	}
+
+	/**
+	 * Gets the capacity of the pool.
+	 *
+	 * @return The maximum number of objects the pool can hold.
+	 */
+	public int getCapacity() {
+		return objects.length();
+	}
+
+	/**
+	 * Pushes an idle slot onto the free stack.
+	 *
+	 * The link is written before the CAS that publishes the slot, so a
+	 * successful pop always reads the link that belongs to the head it saw.
+	 */
+	private void push(int slot) {
+		long h;
+		do {
+			h = head.get();
+			next[slot] = (int) h;
+		} while (!head.compareAndSet(h, nextTag(h) | (slot + 1)));
+	}
+
+	/**
+	 * Pops an idle slot from the free stack.
+	 *
+	 * @return The slot index, or -1 if the stack is empty.
+	 */
+	private int pop() {
+		long h;
+		int slot;
+		do {
+			h = head.get();
+			int top = (int) h;
+			if (top == 0) {
+				return -1;
+			}
+			slot = top - 1;
+		} while (!head.compareAndSet(h, nextTag(h) | (next[slot] & 0xFFFFFFFFL)));
+		return slot;
+	}
+
+	/**
+	 * High half of a new head: the tag is bumped on every change so a recycled slot cannot cause ABA.
+	 */
+	private static long nextTag(long h) {
+		return ((h >>> 32) + 1) << 32;
+	}
+}
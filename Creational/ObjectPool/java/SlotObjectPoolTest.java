@@ -0,0 +1,154 @@
+package Creational.ObjectPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SlotObjectPool class.
+ *
+ * Validates slot binding, state tracking and concurrent use of the
+ * allocation-free pool.
+ */
+public class SlotObjectPoolTest {
+
+	/**
+	 * Silent slotted object whose equality is deliberately broken.
+	 *
+	 * All instances are equal, which would confuse a hash-based pool.
+	 */
+	private static class SlottedObject implements SlottedReusable {
+		private final AtomicBoolean inUse = new AtomicBoolean(false);
+		private int slot = -1;
+
+		@Override
+		public void use() {
+			if (!inUse.compareAndSet(false, true)) {
+				throw new IllegalStateException("Object handed to two borrowers.");
+			}
+		}
+
+		@Override
+		public void reset() {
+			inUse.set(false);
+		}
+
+		@Override
+		public int getPoolSlot() {
+			return slot;
+		}
+
+		@Override
+		public void setPoolSlot(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof SlottedObject;
+		}
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+
+	/**
+	 * Test borrowing and returning objects that all compare equal.
+	 */
+	@Test
+	public void testBorrowAndReturnWithoutEquality() {
+		SlotObjectPool<SlottedObject> pool = new SlotObjectPool<>(2);
+		SlottedObject obj1 = new SlottedObject();
+		SlottedObject obj2 = new SlottedObject();
+		pool.addObject(obj1);
+		pool.addObject(obj2);
+		assertEquals(0, obj1.getPoolSlot(), "The first object should be bound to slot 0.");
+		assertEquals(1, obj2.getPoolSlot(), "The second object should be bound to slot 1.");
+
+		SlottedObject borrowed1 = pool.borrowObject();
+		SlottedObject borrowed2 = pool.borrowObject();
+		assertNotSame(borrowed1, borrowed2, "Two borrows should return different objects.");
+		assertEquals(0, pool.getSize(), "The pool should be empty.");
+
+		pool.returnObject(borrowed1);
+		pool.returnObject(borrowed2);
+		assertEquals(2, pool.getSize(), "Both objects should be back in the pool.");
+		assertSame(borrowed2, pool.borrowObject(), "The last returned object should be borrowed first.");
+	}
+
+	/**
+	 * Test the pool's error cases.
+	 */
+	@Test
+	public void testInvalidOperations() {
+		SlotObjectPool<SlottedObject> pool = new SlotObjectPool<>(1);
+		SlottedObject obj = new SlottedObject();
+
+		assertThrows(IllegalStateException.class, pool::borrowObject,
+			"Borrowing from an empty pool should throw an exception.");
+		assertThrows(IllegalArgumentException.class, () -> pool.returnObject(obj),
+			"Returning an object that was never added should throw an exception.");
+
+		pool.addObject(obj);
+		assertThrows(IllegalArgumentException.class, () -> pool.addObject(obj),
+			"Adding the same object twice should throw an exception.");
+		assertThrows(IllegalStateException.class, () -> pool.addObject(new SlottedObject()),
+			"Adding beyond the capacity should throw an exception.");
+		assertThrows(IllegalArgumentException.class, () -> pool.returnObject(obj),
+			"Returning an idle object should throw an exception.");
+		assertThrows(IllegalArgumentException.class, () -> pool.returnObject(null),
+			"Returning a null object should throw an exception.");
+
+		SlotObjectPool<SlottedObject> other = new SlotObjectPool<>(1);
+		SlottedObject borrowed = pool.borrowObject();
+		assertThrows(IllegalArgumentException.class, () -> other.returnObject(borrowed),
+			"Returning an object to another pool should throw an exception.");
+	}
+
+	/**
+	 * Test concurrent borrowing and returning.
+	 *
+	 * Each object must be held by at most one thread at a time and none may be lost.
+	 */
+	@Test
+	public void testConcurrentBorrowAndReturn() throws InterruptedException {
+		int objects = 4;
+		SlotObjectPool<SlottedObject> pool = new SlotObjectPool<>(objects);
+		for (int i = 0; i < objects; i++) {
+			pool.addObject(new SlottedObject());
+		}
+
+		AtomicInteger failures = new AtomicInteger();
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			workers.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 20_000; i++) {
+					SlottedObject obj;
+					try {
+						obj = pool.borrowObject();
+					} catch (IllegalStateException empty) {
+						continue; // All objects are borrowed right now
+					}
+					try {
+						obj.use();
+					} catch (IllegalStateException overlap) {
+						failures.incrementAndGet();
+					}
+					pool.returnObject(obj);
+				}
+			}));
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		assertEquals(0, failures.get(), "No object should be handed to two borrowers at once.");
+		assertEquals(objects, pool.getSize(), "All objects should be back in the pool.");
+	}
+}
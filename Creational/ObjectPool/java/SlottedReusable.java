@@ -0,0 +1,29 @@
+package Creational.ObjectPool;
+
+/**
+ * Reusable object that remembers its slot in a {@link SlotObjectPool}.
+ *
+ * Storing the slot index in the object itself lets the pool find an
+ * object's bookkeeping in constant time, without hashing and without relying
+ * on {@code equals}/{@code hashCode}. Implementations only need to keep the
+ * value passed to {@link #setPoolSlot(int)}; they must not change it
+ * themselves.
+ */
+public interface SlottedReusable extends Reusable {
+
+	/**
+	 * Gets the slot assigned by the owning pool.
+	 *
+	 * @return The slot index, or -1 if the object has not been added to a pool yet.
+	 */
+	int getPoolSlot();
+
+	/**
+	 * Stores the slot assigned by the owning pool.
+	 *
+	 * Called once by {@link SlotObjectPool#addObject(SlottedReusable)}.
+	 *
+	 * @param slot The slot index.
+	 */
+	void setPoolSlot(int slot);
+}
@@ -0,0 +1,140 @@
+package Creational.ObjectPool;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares borrowing from an {@link ObjectPool} with allocating a fresh object.
+ *
+ * Each operation obtains an object carrying a payload of {@code objectSize}
+ * bytes, uses it and gives it up: the pool variants borrow and return it,
+ * the allocation variants create it with {@code new} and drop it. Every
+ * variant runs at 1, 4, 16 and 64 threads sharing one pool, and is reported
+ * both as throughput and as a sampled latency distribution.
+ *
+ * Run with the GC profiler (enabled in build.gradle) and compare
+ * {@code gc.alloc.rate.norm} and {@code gc.count} with the scores: allocation
+ * usually wins for small objects on few threads, while the pool pays off as
+ * payloads grow, until contention on the pool lock dominates at high thread
+ * counts.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PoolVersusAllocationBenchmark {
+
+	/**
+	 * Object with a payload of a given size and no side effects, so the benchmark measures only its life cycle.
+	 */
+	static final class Payload implements Reusable {
+		private final byte[] bytes;
+
+		Payload(int size) {
+			this.bytes = new byte[size];
+		}
+
+		@Override
+		public void use() {
+			bytes[0]++;
+		}
+
+		@Override
+		public void reset() {
+			bytes[0] = 0;
+		}
+	}
+
+	@Param({"16", "256", "4096"})
+	int objectSize;
+
+	private ObjectPool<Payload> pool;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// One object per thread at most, so borrowing never fails even at 64 threads
+		pool = new ObjectPool<>(() -> new Payload(objectSize), 64, 64);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pool.close();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Payload pool_1() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Payload pool_4() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Payload pool_16() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Payload pool_64() {
+		return borrowAndReturn();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Payload allocate_1() {
+		return allocate();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Payload allocate_4() {
+		return allocate();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Payload allocate_16() {
+		return allocate();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Payload allocate_64() {
+		return allocate();
+	}
+
+	private Payload borrowAndReturn() {
+		Payload obj = pool.borrowObject();
+		obj.use();
+		pool.returnObject(obj);
+		return obj;
+	}
+
+	private Payload allocate() {
+		Payload obj = new Payload(objectSize);
+		obj.use();
+		return obj;
+	}
+}
@@ -0,0 +1,47 @@
+package Creational.Singleton;
+
+/**
+ * Singleton initialized lazily with volatile double-checked locking.
+ *
+ * {@link #getInstance()} only takes the class monitor while the instance
+ * does not exist yet; afterwards every call is a single volatile read. The
+ * field must be volatile so that a thread seeing the reference also sees
+ * the fully constructed object.
+ */
+public class DoubleCheckedSingleton {
+	// The single instance, published by a volatile write once constructed.
+	private static volatile DoubleCheckedSingleton instance;
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private DoubleCheckedSingleton() {
+		// Optional: Initialization logic here.
+	}
+
+	/**
+	 * Retrieves the single instance, creating it on the first call.
+	 *
+	 * @return The single instance of the DoubleCheckedSingleton class.
+	 */
+	public static DoubleCheckedSingleton getInstance() {
+		DoubleCheckedSingleton result = instance; // Read the volatile field once on the fast path
+		if (result == null) {
+			synchronized (DoubleCheckedSingleton.class) {
+				result = instance;
+				if (result == null) {
+					result = new DoubleCheckedSingleton();
+					instance = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * An example method demonstrating Singleton functionality.
+	 */
+	public void doSomething() {
+		System.out.println("Double-Checked Singleton is working!");
+	}
+}
@@ -0,0 +1,29 @@
+package Creational.Singleton;
+
+/**
+ * Singleton implemented as a single-element enum.
+ *
+ * The JVM creates {@link #INSTANCE} when the enum class is initialized, on
+ * first use, with the same lock-free fast path as {@link HolderSingleton}.
+ * The enum also keeps the instance unique across serialization and
+ * reflection.
+ */
+public enum EnumSingleton {
+	INSTANCE;
+
+	/**
+	 * Retrieves the single instance.
+	 *
+	 * @return {@link #INSTANCE}, for symmetry with the other Singleton variants.
+	 */
+	public static EnumSingleton getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * An example method demonstrating Singleton functionality.
+	 */
+	public void doSomething() {
+		System.out.println("Enum Singleton is working!");
+	}
+}
@@ -0,0 +1,42 @@
+package Creational.Singleton;
+
+/**
+ * Singleton initialized lazily by the initialization-on-demand holder idiom.
+ *
+ * The instance lives in a nested class that the JVM only initializes on the
+ * first call to {@link #getInstance()}. Class initialization is guaranteed
+ * to be thread-safe and to happen once, and after it the JIT compiles the
+ * access down to a plain static field read, with no lock or memory barrier.
+ */
+public class HolderSingleton {
+
+	/**
+	 * Holds the instance; initialized by the JVM on first access.
+	 */
+	private static final class Holder {
+		static final HolderSingleton INSTANCE = new HolderSingleton();
+	}
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private HolderSingleton() {
+		// Optional: Initialization logic here.
+	}
+
+	/**
+	 * Retrieves the single instance, creating it on the first call.
+	 *
+	 * @return The single instance of the HolderSingleton class.
+	 */
+	public static HolderSingleton getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * An example method demonstrating Singleton functionality.
+	 */
+	public void doSomething() {
+		System.out.println("Holder Singleton is working!");
+	}
+}
@@ -0,0 +1,188 @@
+package Creational.Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ThreadScopedSingleton and ScopedValueSingleton classes.
+ *
+ * Verifies that each thread or scope gets its own instance, that instances
+ * are reused, and that the number of instances stays within its cap.
+ */
+public class ScopedSingletonTest {
+
+	/**
+	 * Scratch object that detects being used by two threads at once.
+	 */
+	private static final class Scratch {
+		private final AtomicBoolean inUse = new AtomicBoolean(false);
+
+		void work() {
+			if (!inUse.compareAndSet(false, true)) {
+				throw new IllegalStateException("Scratch instance shared between threads.");
+			}
+			Thread.yield();
+			inUse.set(false);
+		}
+	}
+
+	/**
+	 * Test that each platform thread gets its own instance.
+	 */
+	@Test
+	public void testThreadScopedInstancePerThread() throws Exception {
+		ThreadScopedSingleton<Scratch> singleton = new ThreadScopedSingleton<>(Scratch::new, 4);
+		Scratch mine = singleton.getInstance();
+		assertSame(mine, singleton.getInstance(), "A thread should keep its instance.");
+
+		AtomicReference<Scratch> other = new AtomicReference<>();
+		Thread thread = Thread.ofPlatform().start(() -> other.set(singleton.getInstance()));
+		thread.join();
+		assertNotSame(mine, other.get(), "Another thread should get another instance.");
+		assertEquals(2, singleton.getInstanceCount());
+	}
+
+	/**
+	 * Test the instance cap and the reuse of released instances.
+	 */
+	@Test
+	public void testThreadScopedCapAndRelease() throws Exception {
+		ThreadScopedSingleton<Scratch> singleton = new ThreadScopedSingleton<>(Scratch::new, 1);
+		Scratch mine = singleton.getInstance();
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread blocked = Thread.ofPlatform().start(() -> {
+			try {
+				singleton.getInstance();
+			} catch (IllegalStateException e) {
+				failure.set(e);
+			}
+		});
+		blocked.join();
+		assertInstanceOf(IllegalStateException.class, failure.get(), "The cap should be enforced.");
+
+		singleton.release();
+		AtomicReference<Scratch> reused = new AtomicReference<>();
+		Thread next = Thread.ofPlatform().start(() -> reused.set(singleton.getInstance()));
+		next.join();
+		assertSame(mine, reused.get(), "A released instance should be reused.");
+		assertEquals(1, singleton.getInstanceCount());
+	}
+
+	/**
+	 * Test that instances of threads that end without releasing them are reclaimed.
+	 *
+	 * Threads come and go, as in a pool replacing its workers, and none of
+	 * them calls release(); the cap must still never be exhausted.
+	 */
+	@Test
+	public void testThreadScopedReclaimsInstancesOfDeadThreads() throws Exception {
+		ThreadScopedSingleton<Scratch> singleton = new ThreadScopedSingleton<>(Scratch::new, 2);
+		Set<Scratch> seen = ConcurrentHashMap.newKeySet();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		for (int i = 0; i < 20; i++) {
+			Thread worker = Thread.ofPlatform().start(() -> {
+				try {
+					seen.add(singleton.getInstance()); // Never released
+				} catch (IllegalStateException e) {
+					failure.set(e);
+				}
+			});
+			worker.join();
+		}
+		assertNull(failure.get(), "Instances of dead threads should be reclaimed.");
+		assertEquals(2, singleton.getInstanceCount(), "Reclaimed instances should be reused before creating new ones.");
+		assertEquals(2, seen.size());
+	}
+
+	/**
+	 * Test that virtual threads are directed to the scoped-value variant.
+	 */
+	@Test
+	public void testThreadScopedRejectsVirtualThreads() throws Exception {
+		ThreadScopedSingleton<Scratch> singleton = new ThreadScopedSingleton<>(Scratch::new, 4);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread.ofVirtual().start(() -> {
+			try {
+				singleton.getInstance();
+			} catch (IllegalStateException e) {
+				failure.set(e);
+			}
+		}).join();
+		assertInstanceOf(IllegalStateException.class, failure.get());
+	}
+
+	/**
+	 * Test that an instance is bound for the duration of run() only.
+	 */
+	@Test
+	public void testScopedValueBinding() throws InterruptedException {
+		ScopedValueSingleton<Scratch> singleton = new ScopedValueSingleton<>(Scratch::new, 2);
+		assertThrows(IllegalStateException.class, singleton::getInstance, "No instance outside run().");
+
+		AtomicReference<Scratch> outer = new AtomicReference<>();
+		AtomicReference<Scratch> nested = new AtomicReference<>();
+		singleton.run(() -> {
+			outer.set(singleton.getInstance());
+			try {
+				singleton.run(() -> nested.set(singleton.getInstance()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertSame(outer.get(), nested.get(), "A nested run() should reuse the bound instance.");
+		assertEquals(1, singleton.getIdleCount(), "The instance should be idle after run().");
+
+		AtomicReference<Scratch> next = new AtomicReference<>();
+		singleton.run(() -> next.set(singleton.getInstance()));
+		assertSame(outer.get(), next.get(), "The idle instance should be reused.");
+	}
+
+	/**
+	 * Test many virtual threads sharing a small number of instances.
+	 *
+	 * No instance may be used by two threads at once, and no more than the
+	 * cap may be created.
+	 */
+	@Test
+	public void testScopedValueUnderContention() throws Exception {
+		int maxInstances = 4;
+		AtomicInteger created = new AtomicInteger();
+		ScopedValueSingleton<Scratch> singleton = new ScopedValueSingleton<>(() -> {
+			created.incrementAndGet();
+			return new Scratch();
+		}, maxInstances);
+
+		Set<Scratch> seen = ConcurrentHashMap.newKeySet();
+		List<Future<?>> tasks = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 1_000; i++) {
+				tasks.add(executor.submit(() -> {
+					singleton.run(() -> {
+						Scratch scratch = singleton.getInstance();
+						seen.add(scratch);
+						scratch.work();
+					});
+					return null;
+				}));
+			}
+			for (Future<?> task : tasks) {
+				task.get(); // Rethrows a shared-instance failure
+			}
+		}
+		assertTrue(created.get() <= maxInstances, "At most " + maxInstances + " instances should exist, got " + created.get());
+		assertEquals(created.get(), seen.size());
+		assertEquals(created.get(), singleton.getIdleCount(), "All instances should be idle at the end.");
+	}
+}
@@ -0,0 +1,121 @@
+package Creational.Singleton;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Singleton with one instance per {@link ScopedValue} scope, up to a fixed number of instances.
+ *
+ * The virtual-thread counterpart of {@link ThreadScopedSingleton}. Instead
+ * of tying an instance to a thread for its whole life, {@link #run(Runnable)}
+ * binds an instance for the duration of a task; inside the task,
+ * {@link #getInstance()} reads the binding without contention. When the
+ * task ends, the instance goes back to a shared list and is reused by the
+ * next task, so the number of instances follows the number of tasks running
+ * at the same time rather than the number of threads.
+ *
+ * At most maxInstances instances exist. Tasks started while all of them are
+ * bound wait for one to be freed; waiting is cheap on virtual threads.
+ *
+ * A binding is private to the thread that called {@link #run(Runnable)}.
+ * Threads forked inside the scope, for instance by a structured task scope,
+ * inherit the scoped value but must call {@link #run(Runnable)} themselves
+ * to get an instance, so scratch state is never shared between threads.
+ *
+ * ScopedValue is a preview API in JDK 24; the module is compiled and tested
+ * with {@code --enable-preview}.
+ *
+ * @param <T> The type of the scoped instance.
+ */
+public final class ScopedValueSingleton<T> {
+
+	/**
+	 * An instance bound to the thread that opened the scope.
+	 */
+	private record Binding<T>(Thread owner, T instance) {}
+
+	private final ScopedValue<Binding<T>> scope; // Binding of the running task
+	private final Supplier<? extends T> factory; // Creates instances, at most maxInstances times
+	private final Semaphore permits; // One permit per instance that may be bound at the same time
+	private final ConcurrentLinkedQueue<T> idle; // Instances not bound to any scope
+
+	/**
+	 * Constructs a scope-bound singleton.
+	 *
+	 * @param factory Creates the scoped instances.
+	 * @param maxInstances The maximum number of instances, and so of tasks holding one at the same time.
+	 * @throws IllegalArgumentException if the factory is null or maxInstances is not positive.
+	 */
+	public ScopedValueSingleton(Supplier<? extends T> factory, int maxInstances) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Instance factory cannot be null.");
+		}
+		if (maxInstances <= 0) {
+			throw new IllegalArgumentException("Maximum number of instances must be positive.");
+		}
+		this.scope = ScopedValue.newInstance();
+		this.factory = factory;
+		this.permits = new Semaphore(maxInstances, true);
+		this.idle = new ConcurrentLinkedQueue<>();
+	}
+
+	/**
+	 * Runs a task with an instance bound to the calling thread.
+	 *
+	 * If the thread already has an instance bound, the task runs with the
+	 * same instance. Otherwise an idle instance is reused, or a new one is
+	 * created; if maxInstances instances are already bound, the call waits
+	 * for one to be freed.
+	 *
+	 * @param task The task to run, which may call {@link #getInstance()}.
+	 * @throws InterruptedException if the calling thread is interrupted while waiting for an instance.
+	 */
+	public void run(Runnable task) throws InterruptedException {
+		if (scope.isBound() && scope.get().owner() == Thread.currentThread()) {
+			task.run();
+			return;
+		}
+		permits.acquire();
+		T instance = idle.poll();
+		try {
+			if (instance == null) {
+				instance = factory.get();
+				if (instance == null) {
+					throw new IllegalStateException("Instance factory returned null.");
+				}
+			}
+			ScopedValue.where(scope, new Binding<>(Thread.currentThread(), instance)).run(task);
+		} finally {
+			if (instance != null) {
+				idle.offer(instance);
+			}
+			permits.release();
+		}
+	}
+
+	/**
+	 * Retrieves the instance bound to the calling thread.
+	 *
+	 * @return The instance of the enclosing {@link #run(Runnable)} call.
+	 * @throws IllegalStateException if the calling thread is not inside {@link #run(Runnable)}.
+	 */
+	public T getInstance() {
+		if (scope.isBound()) {
+			Binding<T> binding = scope.get();
+			if (binding.owner() == Thread.currentThread()) {
+				return binding.instance();
+			}
+		}
+		throw new IllegalStateException("No instance is bound to this thread; call getInstance() inside run().");
+	}
+
+	/**
+	 * Gets the number of instances not bound to any scope.
+	 *
+	 * @return The number of instances waiting to be reused.
+	 */
+	public int getIdleCount() {
+		return idle.size();
+	}
+}
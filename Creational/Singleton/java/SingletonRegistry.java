@@ -0,0 +1,327 @@
+package Creational.Singleton;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Registry of process-wide singletons with declared dependencies.
+ *
+ * Instead of each singleton creating itself in its own getInstance(), the
+ * registry owns one factory per singleton class, together with the classes
+ * it depends on. Singletons registered as eager are created by
+ * {@link #boot()}, which runs independent factories in parallel and starts
+ * each one as soon as its dependencies are ready. Lazy singletons are
+ * created on their first {@link #get(Class)}, after their dependencies.
+ *
+ * Once a singleton exists, {@link #get(Class)} is a read of an immutable
+ * map followed by a volatile read, with no lock. Each singleton is created
+ * at most once: concurrent first calls wait on a lock private to that
+ * singleton, never on a registry-wide one.
+ *
+ * A factory receives the registry and may only {@link #get(Class)} the
+ * singletons it declared as dependencies, which keeps the startup order
+ * explicit. Cycles and unknown dependencies are rejected when the registry
+ * is built.
+ */
+public final class SingletonRegistry {
+	private final Map<Class<?>, Entry<?>> entries; // Immutable once built, in registration order
+	private final ThreadLocal<Entry<?>> initializing; // Entry whose factory is running on the current thread
+
+	/**
+	 * A registered singleton and its lazily created instance.
+	 */
+	private static final class Entry<T> {
+		final Class<T> type;
+		final Function<? super SingletonRegistry, ? extends T> factory;
+		final List<Class<?>> dependencies;
+		final boolean eager;
+		final ReentrantLock lock; // Serializes creation of this singleton only
+		long startNanos; // When the factory started, written before instance
+		long durationNanos; // How long the factory took, written before instance
+		volatile T instance;
+
+		Entry(Class<T> type, Function<? super SingletonRegistry, ? extends T> factory,
+				List<Class<?>> dependencies, boolean eager) {
+			this.type = type;
+			this.factory = factory;
+			this.dependencies = dependencies;
+			this.eager = eager;
+			this.lock = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Collects singleton registrations and validates the dependency graph.
+	 */
+	public static final class Builder {
+		private final Map<Class<?>, Entry<?>> entries = new LinkedHashMap<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Registers a singleton created by {@link SingletonRegistry#boot()}.
+		 *
+		 * @param type The class the singleton is looked up by.
+		 * @param factory Creates the singleton, reading its dependencies from the registry it receives.
+		 * @param dependencies The singletons the factory needs.
+		 * @return This builder.
+		 * @throws IllegalArgumentException if the type is null, already registered, or the factory is null.
+		 */
+		public <T> Builder eager(Class<T> type, Function<? super SingletonRegistry, ? extends T> factory,
+				Class<?>... dependencies) {
+			return register(type, factory, dependencies, true);
+		}
+
+		/**
+		 * Registers a singleton created on its first lookup.
+		 *
+		 * @param type The class the singleton is looked up by.
+		 * @param factory Creates the singleton, reading its dependencies from the registry it receives.
+		 * @param dependencies The singletons the factory needs.
+		 * @return This builder.
+		 * @throws IllegalArgumentException if the type is null, already registered, or the factory is null.
+		 */
+		public <T> Builder lazy(Class<T> type, Function<? super SingletonRegistry, ? extends T> factory,
+				Class<?>... dependencies) {
+			return register(type, factory, dependencies, false);
+		}
+
+		/**
+		 * Builds the registry.
+		 *
+		 * No singleton is created yet; call {@link SingletonRegistry#boot()} to
+		 * create the eager ones.
+		 *
+		 * @return The registry.
+		 * @throws IllegalArgumentException if a dependency is not registered or the dependencies form a cycle.
+		 */
+		public SingletonRegistry build() {
+			for (Entry<?> entry : entries.values()) {
+				for (Class<?> dependency : entry.dependencies) {
+					if (!entries.containsKey(dependency)) {
+						throw new IllegalArgumentException(entry.type.getName()
+							+ " depends on " + dependency.getName() + ", which is not registered.");
+					}
+				}
+			}
+			Map<Class<?>, Boolean> visited = new HashMap<>(); // false while on the current path, true once done
+			for (Class<?> type : entries.keySet()) {
+				checkAcyclic(type, visited);
+			}
+			return new SingletonRegistry(Collections.unmodifiableMap(new LinkedHashMap<>(entries)));
+		}
+
+		private <T> Builder register(Class<T> type, Function<? super SingletonRegistry, ? extends T> factory,
+				Class<?>[] dependencies, boolean eager) {
+			if (type == null || factory == null) {
+				throw new IllegalArgumentException("Singleton type and factory cannot be null.");
+			}
+			if (entries.containsKey(type)) {
+				throw new IllegalArgumentException(type.getName() + " is already registered.");
+			}
+			entries.put(type, new Entry<>(type, factory, List.of(dependencies), eager));
+			return this;
+		}
+
+		/**
+		 * Depth-first search that fails on reaching a type still on the current path.
+		 */
+		private void checkAcyclic(Class<?> type, Map<Class<?>, Boolean> visited) {
+			Boolean done = visited.get(type);
+			if (done != null) {
+				if (!done) {
+					throw new IllegalArgumentException("Singleton dependencies form a cycle through " + type.getName() + ".");
+				}
+				return;
+			}
+			visited.put(type, false);
+			for (Class<?> dependency : entries.get(type).dependencies) {
+				checkAcyclic(dependency, visited);
+			}
+			visited.put(type, true);
+		}
+	}
+
+	private SingletonRegistry(Map<Class<?>, Entry<?>> entries) {
+		this.entries = entries;
+		this.initializing = new ThreadLocal<>();
+	}
+
+	/**
+	 * Starts registering singletons.
+	 *
+	 * @return An empty builder.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Retrieves a singleton, creating it and its dependencies on first use.
+	 *
+	 * @param type The class the singleton was registered under.
+	 * @return The single instance.
+	 * @throws IllegalArgumentException if no singleton is registered under the type.
+	 * @throws IllegalStateException if called from a factory that did not declare the type as a dependency.
+	 */
+	public <T> T get(Class<T> type) {
+		Entry<T> entry = entry(type);
+		T instance = entry.instance;
+		return instance != null ? instance : initialize(entry);
+	}
+
+	/**
+	 * Checks whether a singleton has been created.
+	 *
+	 * @param type The class the singleton was registered under.
+	 * @return true if the singleton exists.
+	 * @throws IllegalArgumentException if no singleton is registered under the type.
+	 */
+	public boolean isInitialized(Class<?> type) {
+		return entry(type).instance != null;
+	}
+
+	/**
+	 * Creates all eager singletons in parallel on virtual threads.
+	 *
+	 * @return The timing report of the boot.
+	 * @see #boot(Executor)
+	 */
+	public StartupReport boot() {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			return boot(executor);
+		}
+	}
+
+	/**
+	 * Creates all eager singletons, and the singletons they depend on, in parallel.
+	 *
+	 * Each factory runs on the executor as soon as all of its dependencies
+	 * exist, so independent singletons initialize at the same time and the
+	 * boot takes as long as the slowest dependency chain. The call returns
+	 * once every eager singleton exists. Singletons created earlier, for
+	 * instance by a concurrent {@link #get(Class)}, are not created again.
+	 *
+	 * @param executor Runs the factories.
+	 * @return The timing report of the boot.
+	 * @throws RuntimeException the first exception thrown by a factory, once the boot has settled;
+	 *         singletons that depend on a failed one are not created.
+	 */
+	public StartupReport boot(Executor executor) {
+		long bootStart = System.nanoTime();
+		Map<Class<?>, CompletableFuture<Void>> scheduled = new LinkedHashMap<>();
+		for (Entry<?> entry : entries.values()) {
+			if (entry.eager) {
+				schedule(entry, scheduled, executor);
+			}
+		}
+
+		RuntimeException failure = null;
+		for (CompletableFuture<Void> initialization : scheduled.values()) {
+			try {
+				initialization.join();
+			} catch (CompletionException e) {
+				RuntimeException cause = e.getCause() instanceof RuntimeException r ? r : e;
+				if (failure == null) {
+					failure = cause;
+				} else if (failure != cause) {
+					failure.addSuppressed(cause); // Dependents fail with the same cause as their dependency
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+
+		Duration wallTime = Duration.ofNanos(System.nanoTime() - bootStart);
+		List<StartupReport.Initialization> initializations = new ArrayList<>();
+		for (Class<?> type : scheduled.keySet()) {
+			Entry<?> entry = entries.get(type);
+			initializations.add(new StartupReport.Initialization(type,
+				Duration.ofNanos(entry.startNanos - bootStart), Duration.ofNanos(entry.durationNanos)));
+		}
+		initializations.sort(Comparator.comparing(StartupReport.Initialization::startedAfter));
+		return new StartupReport(wallTime, List.copyOf(initializations));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Entry<T> entry(Class<T> type) {
+		Entry<T> entry = (Entry<T>) entries.get(type);
+		if (entry == null) {
+			throw new IllegalArgumentException("No singleton is registered for " + (type == null ? null : type.getName()) + ".");
+		}
+		return entry;
+	}
+
+	/**
+	 * Schedules the creation of a singleton after its dependencies, once per boot.
+	 */
+	private CompletableFuture<Void> schedule(Entry<?> entry, Map<Class<?>, CompletableFuture<Void>> scheduled,
+			Executor executor) {
+		CompletableFuture<Void> initialization = scheduled.get(entry.type);
+		if (initialization != null) {
+			return initialization;
+		}
+		CompletableFuture<?>[] dependencies = new CompletableFuture<?>[entry.dependencies.size()];
+		for (int i = 0; i < dependencies.length; i++) {
+			dependencies[i] = schedule(entries.get(entry.dependencies.get(i)), scheduled, executor);
+		}
+		initialization = CompletableFuture.allOf(dependencies).thenRunAsync(() -> get(entry.type), executor);
+		scheduled.put(entry.type, initialization);
+		return initialization;
+	}
+
+	/**
+	 * Slow path of {@link #get(Class)}: creates the dependencies, then the singleton, under its own lock.
+	 */
+	private <T> T initialize(Entry<T> entry) {
+		Entry<?> requester = initializing.get();
+		if (requester != null && !requester.dependencies.contains(entry.type)) {
+			throw new IllegalStateException(requester.type.getName()
+				+ " must declare a dependency on " + entry.type.getName() + ".");
+		}
+		initializing.set(entry);
+		try {
+			for (Class<?> dependency : entry.dependencies) {
+				get(dependency); // Dependencies first, so no lock is held while they are created
+			}
+			entry.lock.lock();
+			try {
+				T instance = entry.instance;
+				if (instance == null) {
+					long start = System.nanoTime();
+					instance = entry.factory.apply(this);
+					if (instance == null) {
+						throw new IllegalStateException("Factory for " + entry.type.getName() + " returned null.");
+					}
+					entry.startNanos = start;
+					entry.durationNanos = System.nanoTime() - start;
+					entry.instance = instance;
+				}
+				return instance;
+			} finally {
+				entry.lock.unlock();
+			}
+		} finally {
+			if (requester == null) {
+				initializing.remove();
+			} else {
+				initializing.set(requester);
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package Creational.Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SingletonRegistry class.
+ *
+ * Verifies dependency ordering, parallel boot, lazy creation, lookup rules
+ * and the validation of the dependency graph.
+ */
+public class SingletonRegistryTest {
+
+	/** Root singleton without dependencies. */
+	record Config(String url) {}
+
+	/** Singleton depending on Config. */
+	record Database(Config config) {}
+
+	/** Singleton depending on Config, independent of Database. */
+	record Cache(Config config) {}
+
+	/** Lazy singleton depending on Database and Cache. */
+	record ReportService(Database database, Cache cache) {}
+
+	/**
+	 * Test that singletons are created once, after their dependencies.
+	 */
+	@Test
+	public void testBootCreatesEagerSingletonsInDependencyOrder() {
+		List<Class<?>> created = new CopyOnWriteArrayList<>();
+		SingletonRegistry registry = SingletonRegistry.builder()
+			.eager(Database.class, r -> {
+				created.add(Database.class);
+				return new Database(r.get(Config.class));
+			}, Config.class)
+			.eager(Config.class, r -> {
+				created.add(Config.class);
+				return new Config("jdbc:test");
+			})
+			.build();
+
+		StartupReport report = registry.boot();
+
+		assertEquals(List.of(Config.class, Database.class), created, "Config must be created before Database.");
+		assertSame(registry.get(Config.class), registry.get(Database.class).config());
+		assertEquals(2, report.initializations().size(), "Both singletons should be in the report.");
+		assertEquals(Config.class, report.initializations().get(0).type(), "The report should be in start order.");
+		assertTrue(report.format().contains("Database"), "The formatted report should list each singleton.");
+	}
+
+	/**
+	 * Test that independent singletons are created in parallel.
+	 *
+	 * Each factory blocks until the other has started, so the boot can only
+	 * finish if both run at the same time.
+	 */
+	@Test
+	public void testBootRunsIndependentSingletonsInParallel() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		SingletonRegistry registry = SingletonRegistry.builder()
+			.eager(Config.class, r -> new Config("jdbc:test"))
+			.eager(Database.class, r -> new Database(awaitOther(bothStarted, r.get(Config.class))), Config.class)
+			.eager(Cache.class, r -> new Cache(awaitOther(bothStarted, r.get(Config.class))), Config.class)
+			.build();
+
+		StartupReport report = registry.boot();
+
+		assertTrue(registry.isInitialized(Database.class) && registry.isInitialized(Cache.class));
+		assertEquals(3, report.initializations().size());
+	}
+
+	/**
+	 * Test that lazy singletons are created on first access only.
+	 */
+	@Test
+	public void testLazySingletonIsCreatedOnFirstGet() {
+		SingletonRegistry registry = SingletonRegistry.builder()
+			.eager(Config.class, r -> new Config("jdbc:test"))
+			.lazy(Database.class, r -> new Database(r.get(Config.class)), Config.class)
+			.lazy(Cache.class, r -> new Cache(r.get(Config.class)), Config.class)
+			.lazy(ReportService.class, r -> new ReportService(r.get(Database.class), r.get(Cache.class)),
+				Database.class, Cache.class)
+			.build();
+
+		registry.boot();
+		assertTrue(registry.isInitialized(Config.class));
+		assertFalse(registry.isInitialized(Database.class), "Lazy singletons should not be created at boot.");
+
+		ReportService service = registry.get(ReportService.class);
+		assertTrue(registry.isInitialized(Database.class), "Dependencies should be created with their dependent.");
+		assertSame(service, registry.get(ReportService.class));
+	}
+
+	/**
+	 * Test that a factory cannot look up a singleton it did not declare.
+	 */
+	@Test
+	public void testUndeclaredDependencyIsRejected() {
+		SingletonRegistry registry = SingletonRegistry.builder()
+			.lazy(Config.class, r -> new Config("jdbc:test"))
+			.lazy(Database.class, r -> new Database(r.get(Config.class))) // Missing Config.class
+			.build();
+
+		assertThrows(IllegalStateException.class, () -> registry.get(Database.class));
+		assertThrows(IllegalArgumentException.class, () -> registry.get(Cache.class),
+			"Unregistered types should be rejected.");
+	}
+
+	/**
+	 * Test that invalid dependency graphs are rejected when building.
+	 */
+	@Test
+	public void testInvalidGraphsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SingletonRegistry.builder()
+			.lazy(Database.class, r -> new Database(r.get(Config.class)), Config.class)
+			.build(), "Unknown dependencies should be rejected.");
+		assertThrows(IllegalArgumentException.class, () -> SingletonRegistry.builder()
+			.lazy(Config.class, r -> new Config("jdbc:test"), Database.class)
+			.lazy(Database.class, r -> new Database(r.get(Config.class)), Config.class)
+			.build(), "Cycles should be rejected.");
+		assertThrows(IllegalArgumentException.class, () -> SingletonRegistry.builder()
+			.lazy(Config.class, r -> new Config("a"))
+			.lazy(Config.class, r -> new Config("b")), "Duplicate registrations should be rejected.");
+	}
+
+	/**
+	 * Test that a failing factory fails the boot and leaves its dependents uncreated.
+	 */
+	@Test
+	public void testFailedFactoryFailsBoot() {
+		SingletonRegistry registry = SingletonRegistry.builder()
+			.eager(Config.class, r -> {
+				throw new IllegalStateException("Missing configuration file");
+			})
+			.eager(Database.class, r -> new Database(r.get(Config.class)), Config.class)
+			.build();
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, registry::boot);
+		assertEquals("Missing configuration file", e.getMessage());
+		assertFalse(registry.isInitialized(Database.class));
+	}
+
+	/**
+	 * Counts down the latch and waits for the other factory to do the same.
+	 */
+	private static Config awaitOther(CountDownLatch bothStarted, Config config) {
+		bothStarted.countDown();
+		try {
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Factories did not run in parallel.");
+			}
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+		return config;
+	}
+}
@@ -1,5 +1,13 @@
 package Creational.Singleton;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,4 +54,51 @@ public class SingletonTest {
 		// Verify the output matches the expected string
 		assertEquals("Singleton instance is working!\n", outContent.toString());
 	}
+
+	/**
+	 * Test that every lazy-initialization variant returns a single instance.
+	 */
+	@Test
+	public void testVariantsReturnSingleInstance() {
+		assertSame(HolderSingleton.getInstance(), HolderSingleton.getInstance());
+		assertSame(DoubleCheckedSingleton.getInstance(), DoubleCheckedSingleton.getInstance());
+		assertSame(VarHandleSingleton.getInstance(), VarHandleSingleton.getInstance());
+		assertSame(EnumSingleton.INSTANCE, EnumSingleton.getInstance());
+	}
+
+	/**
+	 * Test that concurrent first calls agree on one instance.
+	 *
+	 * The classes may already be initialized by other tests, in which case
+	 * this still checks that the fast path is consistent across threads.
+	 */
+	@Test
+	public void testVariantsUnderContention() throws Exception {
+		assertSingleInstanceAcrossThreads(HolderSingleton::getInstance);
+		assertSingleInstanceAcrossThreads(DoubleCheckedSingleton::getInstance);
+		assertSingleInstanceAcrossThreads(VarHandleSingleton::getInstance);
+		assertSingleInstanceAcrossThreads(EnumSingleton::getInstance);
+	}
+
+	/**
+	 * Calls getInstance from many threads released at once and checks they all get the same object.
+	 */
+	private static void assertSingleInstanceAcrossThreads(Supplier<?> getInstance) throws Exception {
+		int threads = 32;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return getInstance.get();
+				}));
+			}
+			start.countDown();
+			Object first = results.get(0).get();
+			for (Future<?> result : results) {
+				assertSame(first, result.get(), "All threads should see the same instance.");
+			}
+		}
+	}
 }
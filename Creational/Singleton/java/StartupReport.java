@@ -0,0 +1,59 @@
+package Creational.Singleton;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Timing report of a {@link SingletonRegistry} boot.
+ *
+ * When singletons initialize in parallel, the wall time of the boot is
+ * shorter than the sum of the initialization times; comparing the two shows
+ * how much the dependency graph allowed to overlap.
+ *
+ * @param wallTime The time from the start of the boot until every eager singleton was ready.
+ * @param initializations The singletons initialized for the boot, in the order they started.
+ */
+public record StartupReport(Duration wallTime, List<Initialization> initializations) {
+
+	/**
+	 * Timing of one singleton.
+	 *
+	 * @param type The class the singleton is registered under.
+	 * @param startedAfter The time from the start of the boot until its factory ran, negative if it was initialized before the boot.
+	 * @param duration The time its factory took.
+	 */
+	public record Initialization(Class<?> type, Duration startedAfter, Duration duration) {}
+
+	/**
+	 * Sums the time spent in all factories.
+	 *
+	 * @return The total initialization time, as if the singletons had been initialized one after another.
+	 */
+	public Duration totalInitializationTime() {
+		Duration total = Duration.ZERO;
+		for (Initialization initialization : initializations) {
+			total = total.plus(initialization.duration());
+		}
+		return total;
+	}
+
+	/**
+	 * Formats the report as a table, one singleton per line.
+	 *
+	 * @return A human-readable version of the report.
+	 */
+	public String format() {
+		StringBuilder out = new StringBuilder();
+		out.append(String.format("Booted %d singletons in %.1f ms (%.1f ms of initialization)%n",
+			initializations.size(), millis(wallTime), millis(totalInitializationTime())));
+		for (Initialization initialization : initializations) {
+			out.append(String.format("  %-40s started at %8.1f ms, took %8.1f ms%n",
+				initialization.type().getSimpleName(), millis(initialization.startedAfter()), millis(initialization.duration())));
+		}
+		return out.toString();
+	}
+
+	private static double millis(Duration duration) {
+		return duration.toNanos() / 1e6;
+	}
+}
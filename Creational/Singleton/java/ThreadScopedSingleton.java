@@ -0,0 +1,181 @@
+package Creational.Singleton;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Singleton with one instance per platform thread, up to a fixed number of instances.
+ *
+ * Useful for "singletons" holding mutable scratch state: sharing one
+ * instance forces locking inside every method, whereas each thread owning
+ * its instance needs none. After the first call on a thread,
+ * {@link #getInstance()} is a thread-local read, with no contention.
+ *
+ * A thread keeps its instance until it calls {@link #release()}, which
+ * makes the instance available to the next thread instead of creating a
+ * new one. The instance of a thread that terminates without releasing it,
+ * for instance after an uncaught exception or when a pool replaces its
+ * workers, is reclaimed the next time the cap is reached. At most
+ * maxInstances instances ever exist; a thread asking for an instance while
+ * all of them are held by live threads gets an exception, as threads hold
+ * their instance indefinitely and waiting could never end.
+ *
+ * Virtual threads are rejected: there may be millions of them, so they
+ * should use a {@link ScopedValueSingleton} instead.
+ *
+ * @param <T> The type of the per-thread instance.
+ */
+public final class ThreadScopedSingleton<T> {
+	private final Supplier<? extends T> factory; // Creates instances, at most maxInstances times
+	private final int maxInstances; // Upper bound on created
+	private final ThreadLocal<T> current; // Instance held by each thread
+	private final ReentrantLock lock; // Guards holders, released and created
+	private final Map<Thread, T> holders; // Instance held by each thread, to reclaim those of dead threads
+	private final Deque<T> released; // Instances released by their thread, ready for reuse
+	private int created; // Instances created so far
+
+	/**
+	 * Constructs a per-thread singleton.
+	 *
+	 * @param factory Creates the per-thread instances.
+	 * @param maxInstances The maximum number of instances, and so of threads holding one at the same time.
+	 * @throws IllegalArgumentException if the factory is null or maxInstances is not positive.
+	 */
+	public ThreadScopedSingleton(Supplier<? extends T> factory, int maxInstances) {
+		if (factory == null) {
+			throw new IllegalArgumentException("Instance factory cannot be null.");
+		}
+		if (maxInstances <= 0) {
+			throw new IllegalArgumentException("Maximum number of instances must be positive.");
+		}
+		this.factory = factory;
+		this.maxInstances = maxInstances;
+		this.current = new ThreadLocal<>();
+		this.lock = new ReentrantLock();
+		this.holders = new HashMap<>();
+		this.released = new ArrayDeque<>();
+	}
+
+	/**
+	 * Retrieves the calling thread's instance, assigning one on the first call.
+	 *
+	 * @return The instance owned by the calling thread.
+	 * @throws IllegalStateException if called from a virtual thread, or if all instances are held by other threads.
+	 */
+	public T getInstance() {
+		T instance = current.get();
+		if (instance == null) {
+			instance = acquire();
+			current.set(instance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Gives up the calling thread's instance so another thread can reuse it.
+	 *
+	 * The instance is reused as is, so its state should be cleared before
+	 * releasing it. Does nothing if the thread holds no instance.
+	 */
+	public void release() {
+		T instance = current.get();
+		if (instance == null) {
+			return;
+		}
+		current.remove();
+		lock.lock();
+		try {
+			holders.remove(Thread.currentThread());
+			released.push(instance);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of instances created so far.
+	 *
+	 * @return The number of instances, never more than maxInstances.
+	 */
+	public int getInstanceCount() {
+		lock.lock();
+		try {
+			return created;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes a released instance, or creates one if the cap allows.
+	 */
+	private T acquire() {
+		Thread thread = Thread.currentThread();
+		if (thread.isVirtual()) {
+			throw new IllegalStateException("Virtual threads must use a ScopedValueSingleton.");
+		}
+		lock.lock();
+		try {
+			if (released.isEmpty() && created >= maxInstances) {
+				reclaimFromDeadThreads();
+			}
+			T instance = released.poll();
+			if (instance != null) {
+				holders.put(thread, instance);
+				return instance;
+			}
+			if (created >= maxInstances) {
+				throw new IllegalStateException("All " + maxInstances + " instances are held by other threads.");
+			}
+			created++;
+		} finally {
+			lock.unlock();
+		}
+
+		T instance = null;
+		try {
+			instance = factory.get(); // Create outside the lock, the factory may be slow
+		} finally {
+			if (instance == null) {
+				lock.lock();
+				try {
+					created--;
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+		if (instance == null) {
+			throw new IllegalStateException("Instance factory returned null.");
+		}
+		lock.lock();
+		try {
+			holders.put(thread, instance);
+		} finally {
+			lock.unlock();
+		}
+		return instance;
+	}
+
+	/**
+	 * Makes the instances of terminated threads available again.
+	 *
+	 * Must be called with the lock held. Only runs once the cap is reached,
+	 * and walks at most maxInstances holders.
+	 */
+	private void reclaimFromDeadThreads() {
+		Iterator<Map.Entry<Thread, T>> it = holders.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Thread, T> holder = it.next();
+			if (!holder.getKey().isAlive()) {
+				released.push(holder.getValue());
+				it.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package Creational.Singleton;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Singleton initialized lazily with double-checked locking on a VarHandle.
+ *
+ * Same structure as {@link DoubleCheckedSingleton}, but the field is plain
+ * and accessed with acquire/release semantics instead of volatile ones. A
+ * release store paired with an acquire load is enough to publish the
+ * constructed object safely, and on weakly ordered CPUs it is cheaper than
+ * the sequentially consistent ordering of a volatile access.
+ */
+public class VarHandleSingleton {
+	// The single instance, only accessed through INSTANCE_FIELD.
+	private static VarHandleSingleton instance;
+
+	private static final VarHandle INSTANCE_FIELD; // Acquire/release access to instance
+
+	static {
+		try {
+			INSTANCE_FIELD = MethodHandles.lookup()
+				.findStaticVarHandle(VarHandleSingleton.class, "instance", VarHandleSingleton.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private VarHandleSingleton() {
+		// Optional: Initialization logic here.
+	}
+
+	/**
+	 * Retrieves the single instance, creating it on the first call.
+	 *
+	 * @return The single instance of the VarHandleSingleton class.
+	 */
+	public static VarHandleSingleton getInstance() {
+		VarHandleSingleton result = (VarHandleSingleton) INSTANCE_FIELD.getAcquire();
+		if (result == null) {
+			synchronized (VarHandleSingleton.class) {
+				result = (VarHandleSingleton) INSTANCE_FIELD.getAcquire();
+				if (result == null) {
+					result = new VarHandleSingleton();
+					INSTANCE_FIELD.setRelease(result);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * An example method demonstrating Singleton functionality.
+	 */
+	public void doSomething() {
+		System.out.println("VarHandle Singleton is working!");
+	}
+}
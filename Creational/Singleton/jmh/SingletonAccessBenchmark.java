@@ -0,0 +1,77 @@
+package Creational.Singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures getInstance() under contention, once the instance exists.
+ *
+ * Compares the {@code static synchronized} {@link Singleton} with the
+ * lock-free variants at 1, 4, 16 and 64 threads. Each strategy runs in its
+ * own fork, so the accessor call site only ever sees one strategy and is
+ * inlined; the remaining cost is the access itself. Expect the synchronized
+ * version to degrade as threads are added, while the others stay flat.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonAccessBenchmark {
+
+	@Param({"synchronized", "holder", "doubleChecked", "varHandle", "enum"})
+	String strategy;
+
+	private Supplier<Object> getInstance;
+
+	@Setup
+	public void setUp() {
+		getInstance = switch (strategy) {
+			case "synchronized" -> Singleton::getInstance;
+			case "holder" -> HolderSingleton::getInstance;
+			case "doubleChecked" -> DoubleCheckedSingleton::getInstance;
+			case "varHandle" -> VarHandleSingleton::getInstance;
+			case "enum" -> EnumSingleton::getInstance;
+			default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+		};
+		getInstance.get(); // Initialize outside the measurement
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Object threads_1() {
+		return getInstance.get();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object threads_4() {
+		return getInstance.get();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Object threads_16() {
+		return getInstance.get();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Object threads_64() {
+		return getInstance.get();
+	}
+}